@@ -40,23 +40,15 @@ public class AccessAuthorizationManager implements ReactiveAuthorizationManager<
                 .flatMap(jwtAuthenticationToken -> {
                     UUID userId = UUID.fromString(jwtAuthenticationToken.getToken().getSubject());// Get user ID from token
 
-                    // check ban first (most severe)
-                    return userModerationService.isUserBanned(userId)
-                            .flatMap(isBanned -> {
-                                if(isBanned){
+                    // Ban and suspension come from one cached lookup instead of two queries per request
+                    return userModerationService.getRestrictionStatus(userId)
+                            .flatMap(status -> {
+                                if(status.blocksAccess()){
                                     return Mono.just(new AuthorizationDecision(false));
                                 }
 
-                                // Check suspension
-                                return userModerationService.isUserSuspended(userId)
-                                        .flatMap(isRestricted -> {
-                                            if(isRestricted){
-                                                return Mono.just(new AuthorizationDecision(false));
-                                            }
-
-                                            // Proceed with existing onboarding/role checks
-                                            return checkOnboardingAndRoles(jwtAuthenticationToken, path);
-                                        });
+                                // Proceed with existing onboarding/role checks
+                                return checkOnboardingAndRoles(jwtAuthenticationToken, path);
                             });
 
                 })
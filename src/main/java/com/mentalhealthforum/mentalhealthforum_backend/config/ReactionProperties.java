@@ -0,0 +1,19 @@
+package com.mentalhealthforum.mentalhealthforum_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "forum.reactions")
+public class ReactionProperties {
+    // How long reaction toggles on one post are collected before they are written together
+    private Duration coalesceWindow = Duration.ofMillis(10);
+    // A post's batch is written early once this many users are waiting on it
+    private int maxBatchSize = 500;
+}
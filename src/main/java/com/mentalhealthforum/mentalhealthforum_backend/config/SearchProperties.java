@@ -0,0 +1,32 @@
+package com.mentalhealthforum.mentalhealthforum_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "forum.search")
+public class SearchProperties {
+    // Per entity-type query budget; slower branches are dropped and the result is flagged partial
+    private Duration branchTimeout = Duration.ofMillis(1500);
+
+    private Planner planner = new Planner();
+
+    @Setter
+    @Getter
+    public static class Planner {
+        // Estimated share of posts matched above which posts are bounded to the recent window
+        private double recentPostsThreshold = 0.05;
+        // ... above which the posts branch is skipped
+        private double skipPostsThreshold = 0.20;
+        // OR-chains longer than this skip the posts branch regardless of selectivity
+        private int maxOrTerms = 8;
+        // Window used by the RECENT_POSTS plan
+        private Duration recentPostsWindow = Duration.ofDays(90);
+    }
+}
@@ -7,6 +7,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.BookmarkReq
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.BookmarkResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.service.BookmarkService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -80,10 +81,11 @@ public class BookmarkController {
             @RequestParam(defaultValue = "bookmarked_at", name = "sort_by")
             @Parameter(name = "sort_by", description = "Sort field: title, bookmarked_at, last_activity_at, post_count", example = "bookmarked_at") String sortBy,
             @RequestParam(required = false, name = "sort_direction")
-            @Parameter(name = "sort_direction", description = "Sort direction: asc (ascending) or desc (descending)", example = "desc") String sortDirection
+            @Parameter(name = "sort_direction", description = "Sort direction: asc (ascending) or desc (descending)", example = "desc") String sortDirection,
+            @RequestParam(defaultValue = "exact", name = "count_strategy") @Parameter(name = "count_strategy", description = "How the total is computed: exact, estimated, has_more, cached") String countStrategy
     ){
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
-        return bookmarkService.getMyBookmarks(page, size, categoryId, creatorId, threadType, threadStatus, hasContentWarning, search, sortBy, sortDirection, viewerContext)
+        return bookmarkService.getMyBookmarks(page, size, categoryId, creatorId, threadType, threadStatus, hasContentWarning, search, sortBy, sortDirection, CountStrategy.fromString(countStrategy), viewerContext)
                 .map(bookmarks -> ResponseEntity.ok(
                         new StandardSuccessResponse<>("Bookmarks retrieved successfully", bookmarks)));
     }
@@ -2,9 +2,12 @@ package com.mentalhealthforum.mentalhealthforum_backend.controller;
 
 import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchResult;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchStreamEvent;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.SearchSuggestion;
 import com.mentalhealthforum.mentalhealthforum_backend.service.GlobalSearchService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -12,8 +15,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/search")
 public class GlobalSearchController {
@@ -40,4 +46,31 @@ public class GlobalSearchController {
         return globalSearchService.searchRegistry(query, sortBy, page, size, viewerContext)
                 .map(ResponseEntity::ok);
     }
+
+    /**
+     * Streams the page as NDJSON or server-sent events (per the Accept header): one RESULT event per
+     * result in rank order, then an END event with hasNext and partial.
+     */
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<GlobalSearchStreamEvent> streamSearch(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam String query,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
+        return globalSearchService.streamSearch(query, sortBy, page, size, viewerContext);
+    }
+
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<List<SearchSuggestion>>> suggest(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam String query,
+            @RequestParam(defaultValue = "8") int limit
+    ){
+        ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
+        return globalSearchService.suggest(query, limit, viewerContext)
+                .map(ResponseEntity::ok);
+    }
 }
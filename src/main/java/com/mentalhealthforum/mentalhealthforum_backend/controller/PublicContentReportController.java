@@ -7,7 +7,9 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.contentReportsCompreh
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportCategory;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportTargetType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
 import com.mentalhealthforum.mentalhealthforum_backend.service.ReportService;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
@@ -27,12 +29,15 @@ public class PublicContentReportController {
 
     private final ReportService reportService;
     private final JwtClaimsExtractor jwtClaimsExtractor;
+    private final ReferenceDataCache referenceDataCache;
 
     public PublicContentReportController(
             ReportService reportService,
-            JwtClaimsExtractor jwtClaimsExtractor) {
+            JwtClaimsExtractor jwtClaimsExtractor,
+            ReferenceDataCache referenceDataCache) {
         this.reportService = reportService;
         this.jwtClaimsExtractor = jwtClaimsExtractor;
+        this.referenceDataCache = referenceDataCache;
     }
 
     // ==================== REPORT ACTIONS ====================
@@ -83,11 +88,12 @@ public class PublicContentReportController {
             @RequestParam(required = false) ReportCategory category,
             @RequestParam(defaultValue = "", name = "search") @Parameter(description = "Search by reason or details") String search,
             @RequestParam(defaultValue = "reported_at", name = "sort_by") @Parameter(description = "Sort by: severity, reported_at") String sortBy,
-            @RequestParam(required = false, name = "sort_direction") @Parameter(description = "Sort direction: asc or desc") String sortDirection
+            @RequestParam(required = false, name = "sort_direction") @Parameter(description = "Sort direction: asc or desc") String sortDirection,
+            @RequestParam(defaultValue = "exact", name = "count_strategy") @Parameter(name = "count_strategy", description = "How the total is computed: exact, estimated, has_more, cached") String countStrategy
     ){
 
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
-        return reportService.getOwnReports(page, size, targetType, status, category, search, sortBy, sortDirection, viewerContext)
+        return reportService.getOwnReports(page, size, targetType, status, category, search, sortBy, sortDirection, CountStrategy.fromString(countStrategy), viewerContext)
                 .map(reports->
                         ResponseEntity.ok(new StandardSuccessResponse<>("Content reports retrieved successfully", reports)));
     }
@@ -122,10 +128,11 @@ public class PublicContentReportController {
     @GetMapping("/templates")
     public Mono<ResponseEntity<StandardSuccessResponse<List<ReportTemplateResponse>>>> getReportTemplates(){
 
-        return reportService.getReportTemplates()
-                .collectList()
-                .map(templates ->
-                        ResponseEntity.ok(new StandardSuccessResponse<>("Report templates retrieved successfully", templates)));
+        return Mono.zip(referenceDataCache.version(), reportService.getReportTemplates().collectList())
+                .map(tuple -> ResponseEntity.ok()
+                        .eTag(tuple.getT1())
+                        .cacheControl(ReferenceDataCache.PUBLIC_CACHE_CONTROL)
+                        .body(new StandardSuccessResponse<>("Report templates retrieved successfully", tuple.getT2())));
     }
 
     @GetMapping("/templates/category/{category}")
@@ -133,10 +140,11 @@ public class PublicContentReportController {
             @PathVariable ReportCategory category
     ){
 
-        return reportService.getReportTemplatesByCategory(category)
-                .collectList()
-                .map(templates ->
-                        ResponseEntity.ok(new StandardSuccessResponse<>("Report templates retrieved successfully", templates)));
+        return Mono.zip(referenceDataCache.version(), reportService.getReportTemplatesByCategory(category).collectList())
+                .map(tuple -> ResponseEntity.ok()
+                        .eTag(tuple.getT1())
+                        .cacheControl(ReferenceDataCache.PUBLIC_CACHE_CONTROL)
+                        .body(new StandardSuccessResponse<>("Report templates retrieved successfully", tuple.getT2())));
     }
 
 }
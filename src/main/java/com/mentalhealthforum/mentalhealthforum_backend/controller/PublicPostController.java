@@ -5,17 +5,21 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.StandardSuccessRespon
 import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.CreatePostRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.PostResponse;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.ReplyTreeNode;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.UpdatePostRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.PostType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
 import com.mentalhealthforum.mentalhealthforum_backend.service.PostService;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -73,15 +77,33 @@ public class PublicPostController {
             @RequestParam(defaultValue = "false", name = "is_deleted") @Parameter(name = "is_deleted", description = "Include soft-deleted posts") boolean isDeleted,
             @RequestParam(defaultValue = "", name = "search") @Parameter(name = "search", description = "Search by content (case-insensitive contains)") String search,
             @RequestParam(defaultValue = "created_at", name = "sort_by") @Parameter(name = "sort_by", description = "Field to sort by: created_at, updated_at") String sortBy,
-            @RequestParam(required = false, name = "sort_direction") @Parameter(name = "sort_direction", description = "Sort direction: asc or desc") String sortDirection
+            @RequestParam(required = false, name = "sort_direction") @Parameter(name = "sort_direction", description = "Sort direction: asc or desc") String sortDirection,
+            @RequestParam(defaultValue = "exact", name = "count_strategy") @Parameter(name = "count_strategy", description = "How the total is computed: exact, estimated, has_more, cached") String countStrategy
     ){
 
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
-        return postService. getAllPosts( page, size, threadId, authorId, parentPostId, postType, hasContentWarning, isDeleted, search,sortBy, sortDirection, viewerContext)
+        return postService. getAllPosts( page, size, threadId, authorId, parentPostId, postType, hasContentWarning, isDeleted, search,sortBy, sortDirection, CountStrategy.fromString(countStrategy), viewerContext)
                 .map(paginatedPosts ->
                         ResponseEntity.ok(new StandardSuccessResponse<>("Posts retrieved successfully", paginatedPosts)));
     }
 
+    /**
+     * Streams a thread's reply tree as NDJSON, depth-first: each node carries its depth, a sortable
+     * materialized path and how many of its replies were cut off by the bounds.
+     */
+    @GetMapping(value = "/threads/{threadId}/conversation", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ReplyTreeNode> getConversation(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID threadId,
+            @RequestParam(required = false, name = "root_post_id") @Parameter(name = "root_post_id", description = "Load only this post's subtree") UUID rootPostId,
+            @RequestParam(defaultValue = "5", name = "max_depth") @Parameter(name = "max_depth", description = "Deepest reply level returned (top-level posts are 0, max 10)") int maxDepth,
+            @RequestParam(defaultValue = "10", name = "max_children") @Parameter(name = "max_children", description = "Replies returned per post, and top-level posts returned (max 50)") int maxChildren
+    ){
+
+        ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
+        return postService.getConversation(threadId, rootPostId, maxDepth, maxChildren, viewerContext);
+    }
+
     @PutMapping("/{postId}")
     public Mono<ResponseEntity<StandardSuccessResponse<PostResponse>>> updateOwnPost(
             @AuthenticationPrincipal Jwt jwt,
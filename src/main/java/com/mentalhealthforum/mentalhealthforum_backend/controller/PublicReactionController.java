@@ -6,6 +6,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.reactionsExpandedEmot
 import com.mentalhealthforum.mentalhealthforum_backend.dto.reactionsExpandedEmotionalSupport.PostReactionSummaryResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.reactionsExpandedEmotionalSupport.ReactionDefinitionResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
 import com.mentalhealthforum.mentalhealthforum_backend.service.PostReactionService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -23,12 +24,15 @@ public class PublicReactionController {
 
     private final PostReactionService postReactionService;
     private final JwtClaimsExtractor jwtClaimsExtractor;
+    private final ReferenceDataCache referenceDataCache;
 
     public PublicReactionController(
             PostReactionService postReactionService,
-            JwtClaimsExtractor jwtClaimsExtractor) {
+            JwtClaimsExtractor jwtClaimsExtractor,
+            ReferenceDataCache referenceDataCache) {
         this.postReactionService = postReactionService;
         this.jwtClaimsExtractor = jwtClaimsExtractor;
+        this.referenceDataCache = referenceDataCache;
     }
 
     // ==================== POST REACTIONS ====================
@@ -90,15 +94,16 @@ public class PublicReactionController {
      * Get all available reaction definitions.
      * Used by frontend to build reaction UI (buttons, icons, tooltips).
      * No authentication required - reference data is public.
+     * Served from the reference data cache with an ETag, so unchanged definitions revalidate as 304.
      */
     @GetMapping("/reaction-definitions")
     public Mono<ResponseEntity<StandardSuccessResponse<List<ReactionDefinitionResponse>>>> getReactionDefinitions(){
 
-        return postReactionService.getReactionDefinitions()
-                .collectList()
-                .map(definitions -> ResponseEntity.ok(
-                        new StandardSuccessResponse<>("Reaction definitions retrieved successfully", definitions)
-                ));
+        return Mono.zip(referenceDataCache.version(), postReactionService.getReactionDefinitions().collectList())
+                .map(tuple -> ResponseEntity.ok()
+                        .eTag(tuple.getT1())
+                        .cacheControl(ReferenceDataCache.PUBLIC_CACHE_CONTROL)
+                        .body(new StandardSuccessResponse<>("Reaction definitions retrieved successfully", tuple.getT2())));
     }
 
 }
@@ -8,10 +8,12 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMet
 import com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata.UpdateOwnThreadRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadStatusDefinitionEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadTypeDefinitionEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.service.ThreadService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -34,12 +36,15 @@ public class PublicThreadController {
 
     private final ThreadService threadService;
     private final JwtClaimsExtractor jwtClaimsExtractor;
+    private final ReferenceDataCache referenceDataCache;
 
     public PublicThreadController(
             ThreadService threadService,
-            JwtClaimsExtractor jwtClaimsExtractor) {
+            JwtClaimsExtractor jwtClaimsExtractor,
+            ReferenceDataCache referenceDataCache) {
         this.threadService = threadService;
         this.jwtClaimsExtractor = jwtClaimsExtractor;
+        this.referenceDataCache = referenceDataCache;
     }
 
     // ==================== CREATE / READ ====================
@@ -119,12 +124,18 @@ public class PublicThreadController {
             @RequestParam(required = false, name = "category_tag_id") @Parameter(name = "category_tag_id", description = "Filter by category tag ID") UUID categoryTagId,
             @RequestParam(defaultValue = "", name = "search") @Parameter(name = "search", description = "Search by title (case-insensitive contains)") String search,
             @RequestParam(defaultValue = "last_activity_at", name = "sort_by") @Parameter(name = "sort_by", description = "Field to sort by: created_at, last_activity_at, post_count, view_count, title") String sortBy,
-            @RequestParam(required = false, name = "sort_direction") @Parameter(name = "sort_direction", description = "Sort direction: asc or desc") String sortDirection
+            @RequestParam(required = false, name = "sort_direction") @Parameter(name = "sort_direction", description = "Sort direction: asc or desc") String sortDirection,
+            @RequestParam(defaultValue = "exact", name = "count_strategy") @Parameter(name = "count_strategy", description = "How the total is computed: exact, estimated, has_more, cached") String countStrategy,
+            @RequestParam(required = false, name = "cursor") @Parameter(name = "cursor", description = "Cursor pagination: pass an empty value for the first page, then the returned nextCursor. Overrides page.") String cursor
     ){
 
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
 
-        return threadService.getAllThreads(page, size, categoryId, creatorId, threadType, threadStatus, isDeleted, isFeatured, hasContentWarning, isBookmarked, isWatched, categoryTagId , search, sortBy, sortDirection, viewerContext)
+        Mono<PaginatedResponse<ThreadResponse>> threads = (cursor != null)
+                ? threadService.getAllThreadsByCursor(cursor, size, categoryId, creatorId, threadType, threadStatus, isDeleted, isFeatured, hasContentWarning, isBookmarked, isWatched, categoryTagId , search, sortBy, sortDirection, viewerContext)
+                : threadService.getAllThreads(page, size, categoryId, creatorId, threadType, threadStatus, isDeleted, isFeatured, hasContentWarning, isBookmarked, isWatched, categoryTagId , search, sortBy, sortDirection, CountStrategy.fromString(countStrategy), viewerContext);
+
+        return threads
                 .map(paginatedThreads -> {
                     String message = "Paginated thread records retrieved successfully.";
                     StandardSuccessResponse<PaginatedResponse<ThreadResponse>> response = new StandardSuccessResponse<>(message, paginatedThreads);
@@ -137,17 +148,21 @@ public class PublicThreadController {
     @GetMapping("/thread_types")
     public Mono<ResponseEntity<StandardSuccessResponse<List<ThreadTypeDefinitionEntity>>>> getThreadTypes(
     ){
-        return threadService.getThreadTypes()
-                .collectList()
-                .map(threadTypes -> ResponseEntity.ok(new StandardSuccessResponse<>("Thread types retrieved Successfully", threadTypes)));
+        return Mono.zip(referenceDataCache.version(), threadService.getThreadTypes().collectList())
+                .map(tuple -> ResponseEntity.ok()
+                        .eTag(tuple.getT1())
+                        .cacheControl(ReferenceDataCache.PUBLIC_CACHE_CONTROL)
+                        .body(new StandardSuccessResponse<>("Thread types retrieved Successfully", tuple.getT2())));
     }
 
     @GetMapping("/thread_statuses")
     public Mono<ResponseEntity<StandardSuccessResponse<List<ThreadStatusDefinitionEntity>>>> getThreadStatuses(
     ){
-        return threadService.getThreadStatuses()
-                .collectList()
-                .map(threadStatuses -> ResponseEntity.ok(new StandardSuccessResponse<>("Thread statuses retrieved Successfully", threadStatuses)));
+        return Mono.zip(referenceDataCache.version(), threadService.getThreadStatuses().collectList())
+                .map(tuple -> ResponseEntity.ok()
+                        .eTag(tuple.getT1())
+                        .cacheControl(ReferenceDataCache.PUBLIC_CACHE_CONTROL)
+                        .body(new StandardSuccessResponse<>("Thread statuses retrieved Successfully", tuple.getT2())));
     }
 
 
@@ -6,6 +6,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.WatchThreadResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.service.WatchThreadService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -78,10 +79,11 @@ public class ThreadWatchController {
             @RequestParam(required = false) @Parameter(description = "Filter by notification enabled status") Boolean notificationEnabled,
             @RequestParam(defaultValue = "") @Parameter(description = "Search by thread title or content") String search,
             @RequestParam(defaultValue = "created_at") @Parameter(description = "Sort field: created_at, thread_title") String sortBy,
-            @RequestParam(required = false) @Parameter(description = "Sort direction: asc or desc") String sortDirection
+            @RequestParam(required = false) @Parameter(description = "Sort direction: asc or desc") String sortDirection,
+            @RequestParam(defaultValue = "exact", name = "count_strategy") @Parameter(name = "count_strategy", description = "How the total is computed: exact, estimated, has_more, cached") String countStrategy
     ){
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
-        return watchThreadService.getWatchThreads(page, size, categoryId, creatorId, threadType, threadStatus, hasContentWarning, isBookmarked, notificationEnabled, search, sortBy, sortDirection, viewerContext)
+        return watchThreadService.getWatchThreads(page, size, categoryId, creatorId, threadType, threadStatus, hasContentWarning, isBookmarked, notificationEnabled, search, sortBy, sortDirection, CountStrategy.fromString(countStrategy), viewerContext)
                 .map(threads ->
                         ResponseEntity.ok(new StandardSuccessResponse<>("Watch threads retrieved successfully", threads)));
     }
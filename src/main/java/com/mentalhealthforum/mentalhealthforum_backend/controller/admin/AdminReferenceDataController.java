@@ -0,0 +1,33 @@
+package com.mentalhealthforum.mentalhealthforum_backend.controller.admin;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.StandardSuccessResponse;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/admin/forum/reference-data")
+public class AdminReferenceDataController {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    public AdminReferenceDataController(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    // ==================== CACHE MANAGEMENT ====================
+
+    /**
+     * Reloads thread types/statuses, reaction definitions and templates after they were edited in the database.
+     * Returns the new reference data version (the ETag served by the reference data endpoints).
+     */
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<StandardSuccessResponse<String>>> refreshReferenceData() {
+        return referenceDataCache.refresh()
+                .map(snapshot -> ResponseEntity.ok(
+                        new StandardSuccessResponse<>("Reference data refreshed successfully", snapshot.version())));
+    }
+}
@@ -8,7 +8,9 @@ import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportCategory;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportTargetType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.Severity;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.service.JwtClaimsExtractor;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
 import com.mentalhealthforum.mentalhealthforum_backend.service.ReportService;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
@@ -20,6 +22,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("api/moderator/forum/content-reports")
@@ -27,12 +30,15 @@ public class ModeratorContentReportController {
 
     private final ReportService reportService;
     private final JwtClaimsExtractor jwtClaimsExtractor;
+    private final ReferenceDataCache referenceDataCache;
 
     public ModeratorContentReportController(
             ReportService reportService,
-            JwtClaimsExtractor jwtClaimsExtractor) {
+            JwtClaimsExtractor jwtClaimsExtractor,
+            ReferenceDataCache referenceDataCache) {
         this.reportService = reportService;
         this.jwtClaimsExtractor = jwtClaimsExtractor;
+        this.referenceDataCache = referenceDataCache;
     }
 
     // ==================== REPORT MANAGEMENT ====================
@@ -54,11 +60,12 @@ public class ModeratorContentReportController {
             @RequestParam(required = false, name = "reviewed_by") UUID reviewedBy,
             @RequestParam(defaultValue = "", name = "search") @Parameter(description = "Search by reason or details") String search,
             @RequestParam(defaultValue = "reported_at", name = "sort_by") @Parameter(description = "Sort by: severity, last_modified_at, reported_at") String sortBy,
-            @RequestParam(required = false, name = "sort_direction") @Parameter(description = "Sort direction: asc or desc") String sortDirection
+            @RequestParam(required = false, name = "sort_direction") @Parameter(description = "Sort direction: asc or desc") String sortDirection,
+            @RequestParam(defaultValue = "exact", name = "count_strategy") @Parameter(name = "count_strategy", description = "How the total is computed: exact, estimated, has_more, cached") String countStrategy
     ){
 
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
-        return reportService.getAllReports(page, size, reporterId, reportedUserId, threadId, postId, targetType, status, category, severity, assignedTo, reviewedBy, search, sortBy, sortDirection, viewerContext)
+        return reportService.getAllReports(page, size, reporterId, reportedUserId, threadId, postId, targetType, status, category, severity, assignedTo, reviewedBy, search, sortBy, sortDirection, CountStrategy.fromString(countStrategy), viewerContext)
                 .map(reports->
                         ResponseEntity.ok(new StandardSuccessResponse<>("Content reports retrieved successfully", reports)));
     }
@@ -162,10 +169,17 @@ public class ModeratorContentReportController {
     ){
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
 
-        return reportService.getModerationActionTemplates(viewerContext)
-                .collectList()
-                .map(templates ->
-                        ResponseEntity.ok(new StandardSuccessResponse<>("Moderation action templates retrieved successfully", templates)));
+        return Mono.zip(referenceDataCache.version(), reportService.getModerationActionTemplates(viewerContext).collectList())
+                .map(tuple -> {
+                    // Templates are filtered by the viewer's groups, so the ETag covers the visible action types too
+                    String visibleActions = tuple.getT2().stream()
+                            .map(template -> template.getActionType().name())
+                            .collect(Collectors.joining(","));
+                    return ResponseEntity.ok()
+                            .eTag(tuple.getT1() + "-" + Integer.toHexString(visibleActions.hashCode()))
+                            .cacheControl(ReferenceDataCache.PRIVATE_CACHE_CONTROL)
+                            .body(new StandardSuccessResponse<>("Moderation action templates retrieved successfully", tuple.getT2()));
+                });
     }
 
     @GetMapping("/templates/dismissal-reason")
@@ -174,10 +188,11 @@ public class ModeratorContentReportController {
     ){
         ViewerContext viewerContext = jwtClaimsExtractor.extractViewerContext(jwt);
 
-        return reportService.getDismissalReasonTemplates(viewerContext)
-                .collectList()
-                .map(templates ->
-                        ResponseEntity.ok(new StandardSuccessResponse<>("Dismissal reason templates retrieved successfully", templates)));
+        return Mono.zip(referenceDataCache.version(), reportService.getDismissalReasonTemplates(viewerContext).collectList())
+                .map(tuple -> ResponseEntity.ok()
+                        .eTag(tuple.getT1())
+                        .cacheControl(ReferenceDataCache.PRIVATE_CACHE_CONTROL)
+                        .body(new StandardSuccessResponse<>("Dismissal reason templates retrieved successfully", tuple.getT2())));
     }
 
 }
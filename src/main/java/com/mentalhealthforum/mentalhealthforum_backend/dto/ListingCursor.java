@@ -0,0 +1,65 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ErrorCode;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.SortKeyType;
+import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Continuation token for keyset (cursor) paginated listings.
+ *
+ * <p>Captures the position of the last row of a page: its sticky flag (threads only),
+ * its sort key rendered as text (null when the row's sort column is NULL) and its id as the
+ * final tie-breaker. The sort field and direction are carried along so a cursor cannot be
+ * replayed against a different ordering.
+ * Clients treat the encoded form as opaque.
+ */
+public record ListingCursor(
+        String sortBy,
+        String direction,
+        Boolean sticky,
+        String sortKey,
+        UUID id
+) {
+
+    public String encode() {
+        byte[] json = JsonUtils.objectToJsonString(this).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    public static ListingCursor decode(String token) {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            ListingCursor cursor = JsonUtils.jsonStringToObject(json, ListingCursor.class);
+            if (cursor.sortBy() == null || cursor.direction() == null || cursor.id() == null) {
+                throw new ApiException(ErrorCode.INVALID_CURSOR);
+            }
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public boolean matches(String sortBy, String direction) {
+        return this.sortBy.equals(sortBy) && this.direction.equals(direction);
+    }
+
+    /**
+     * The sort key parsed as {@code keyType}, or null for a row whose sort column was NULL;
+     * an unparsable key is an invalid cursor.
+     */
+    public Object typedSortKey(SortKeyType keyType) {
+        if (sortKey == null) {
+            return null;
+        }
+        try {
+            return keyType.parse(sortKey);
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -16,6 +16,8 @@ public class PaginatedResponse<T>{
     private int totalPages;
     private boolean  isLastPage;
     private FilterMetadata<?> filters;
+    // Continuation token for cursor mode; null in offset mode and on the last page
+    private String nextCursor;
 
     public PaginatedResponse(List<T> content, int page, int size, long totalElements) {
         this.content = content;
@@ -31,4 +33,33 @@ public class PaginatedResponse<T>{
        this.filters = filters;
     }
 
+    /**
+     * "Has more" mode: the total is not counted, so totalElements and totalPages are reported as -1
+     * and isLastPage comes from probing one row past the page.
+     */
+    public PaginatedResponse(List<T> content, int page, int size, boolean hasNext, FilterMetadata<?> filters) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = -1;
+        this.totalPages = -1;
+        this.isLastPage = !hasNext;
+        this.filters = filters;
+    }
+
+    /**
+     * Cursor mode: totals are not computed, so totalElements and totalPages are reported as -1
+     * and the end of the listing is signalled by a missing nextCursor.
+     */
+    public PaginatedResponse(List<T> content, int size, String nextCursor, FilterMetadata<?> filters) {
+        this.content = content;
+        this.page = 0;
+        this.size = size;
+        this.totalElements = -1;
+        this.totalPages = -1;
+        this.isLastPage = nextCursor == null;
+        this.filters = filters;
+        this.nextCursor = nextCursor;
+    }
+
 }
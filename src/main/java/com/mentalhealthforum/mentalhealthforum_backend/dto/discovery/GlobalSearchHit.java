@@ -0,0 +1,16 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.discovery;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SearchEntityType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ranked search match before hydration: just enough to order and page results.
+ */
+public record GlobalSearchHit(
+    UUID entityId,
+    SearchEntityType entityType,
+    Double searchScore,
+    Instant lastActivityAt
+) {}
@@ -0,0 +1,24 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.discovery;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * Search result slice that also reports whether some entity types were left out
+ * because their query timed out.
+ */
+public class GlobalSearchSlice<T> extends SliceImpl<T> {
+
+    private final boolean partial;
+
+    public GlobalSearchSlice(List<T> content, Pageable pageable, boolean hasNext, boolean partial) {
+        super(content, pageable, hasNext);
+        this.partial = partial;
+    }
+
+    public boolean isPartial() {
+        return partial;
+    }
+}
@@ -0,0 +1,29 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.discovery;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a streamed search: a RESULT carrying the next result in rank order, or the final END
+ * marker carrying whether another page exists and whether some entity types timed out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GlobalSearchStreamEvent(
+    Type type,
+    GlobalSearchResult result,
+    Boolean hasNext,
+    Boolean partial
+) {
+
+    public enum Type {
+        RESULT,
+        END
+    }
+
+    public static GlobalSearchStreamEvent result(GlobalSearchResult result) {
+        return new GlobalSearchStreamEvent(Type.RESULT, result, null, null);
+    }
+
+    public static GlobalSearchStreamEvent end(boolean hasNext, boolean partial) {
+        return new GlobalSearchStreamEvent(Type.END, null, hasNext, partial);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.discovery;
+
+import java.util.UUID;
+
+/**
+ * One search-as-you-type match: a thread title, category name, tag name or display name.
+ */
+public record SearchSuggestion(
+    UUID entityId,
+    String entityType,
+    String label
+) {}
@@ -0,0 +1,17 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.discovery;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SuggestionType;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Label of a suggestible entity plus the categories that gate its visibility
+ * (a thread's category, the category itself, or the categories a tag is assigned to; empty for profiles).
+ */
+public record SuggestionSource(
+    SuggestionType type,
+    UUID entityId,
+    String label,
+    List<UUID> categoryIds
+) {}
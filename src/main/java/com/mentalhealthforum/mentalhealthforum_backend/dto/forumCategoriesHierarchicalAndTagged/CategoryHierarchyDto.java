@@ -2,8 +2,13 @@ package com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHiera
 
 import java.util.List;
 
+/**
+ * @param children       direct children of the category
+ * @param subcategories  the same children as nested hierarchy nodes, down to any depth
+ */
 public record CategoryHierarchyDto(
         CategoryResponse category,
         List<CategoryResponse> children,
-        List<CategoryTagResponse> tags
+        List<CategoryTagResponse> tags,
+        List<CategoryHierarchyDto> subcategories
 ) {}
@@ -0,0 +1,19 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.moderationEnhancedActionsAndWorkflows;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.RestrictionType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Record for an active restriction with the details shown to the restricted user
+ */
+public record ActiveRestrictionRecord(
+    UUID id,
+    RestrictionType restriction_type,
+    String reason,
+    UUID imposed_by,
+    String imposed_by_display_name,
+    Instant starts_at,
+    Instant expires_at
+) {}
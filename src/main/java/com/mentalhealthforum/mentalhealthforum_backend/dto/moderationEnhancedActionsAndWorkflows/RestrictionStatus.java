@@ -0,0 +1,60 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.moderationEnhancedActionsAndWorkflows;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.RestrictionType;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Snapshot of a user's active restriction types.
+ *
+ * @param activeTypes        restriction types currently in force
+ * @param earliestExpiresAt  first moment one of them lapses; null when none expire
+ */
+public record RestrictionStatus(
+        Set<RestrictionType> activeTypes,
+        Instant earliestExpiresAt
+) {
+
+    public static final RestrictionStatus NONE = new RestrictionStatus(Set.of(), null);
+
+    public static RestrictionStatus from(List<RestrictionStatusRecord> records) {
+        if (records.isEmpty()) {
+            return NONE;
+        }
+        Set<RestrictionType> types = EnumSet.noneOf(RestrictionType.class);
+        Instant earliest = null;
+        for (RestrictionStatusRecord record : records) {
+            types.add(record.restriction_type());
+            if (record.expires_at() != null && (earliest == null || record.expires_at().isBefore(earliest))) {
+                earliest = record.expires_at();
+            }
+        }
+        return new RestrictionStatus(Set.copyOf(types), earliest);
+    }
+
+    public boolean has(RestrictionType type) {
+        return activeTypes.contains(type);
+    }
+
+    public boolean isBanned() {
+        return has(RestrictionType.PERMANENT_BAN);
+    }
+
+    public boolean isSuspended() {
+        return has(RestrictionType.SUSPENSION);
+    }
+
+    public boolean isMuted() {
+        return has(RestrictionType.MUTE);
+    }
+
+    /**
+     * Bans and suspensions lock the user out of the API entirely.
+     */
+    public boolean blocksAccess() {
+        return isBanned() || isSuspended();
+    }
+}
@@ -0,0 +1,13 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.moderationEnhancedActionsAndWorkflows;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.RestrictionType;
+
+import java.time.Instant;
+
+/**
+ * Record for one active restriction of a user (type and expiry only)
+ */
+public record RestrictionStatusRecord(
+    RestrictionType restriction_type,
+    Instant expires_at
+) {}
@@ -0,0 +1,43 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Normalized filter set for post listings.
+ * Null fields mean "no filter"; the post type is carried by its Postgres label.
+ */
+public record PostListingFilter(
+        UUID viewerId,
+        boolean isAdmin,
+        boolean isModeratorOrAdmin,
+        boolean isVerified,
+        UUID threadId,
+        UUID authorId,
+        UUID parentPostId,
+        String postType,
+        Boolean hasContentWarning,
+        Boolean isDeleted,
+        Boolean flaggedForReview,
+        String search
+) {
+
+    public ViewerTier tier() {
+        return ViewerTier.of(viewerId != null, isVerified, isModeratorOrAdmin, isAdmin);
+    }
+
+    /**
+     * Normalized key for cached counts; only the viewer's visibility tier affects the result.
+     */
+    public String countKey() {
+        return Arrays.asList(
+                tier(),
+                threadId, authorId, parentPostId, postType,
+                hasContentWarning, isDeleted, flaggedForReview,
+                search != null ? search.toLowerCase(Locale.ROOT) : null
+        ).toString();
+    }
+}
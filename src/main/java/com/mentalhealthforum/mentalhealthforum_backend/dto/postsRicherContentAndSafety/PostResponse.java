@@ -3,12 +3,14 @@ package com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAn
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ContentWarningType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.EditReason;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.PostType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ReactionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 @Data
@@ -44,6 +46,10 @@ public class PostResponse {
     private boolean isDeleted;
 
     private Integer reactionCount;
+    // Count per reaction type (types with no reactions omitted)
+    private Map<ReactionType, Integer> reactionSummary;
+    // The viewer's own reaction, if any (listings only)
+    private ReactionType viewerReaction;
 
     private Instant createdAt;
     private Instant updatedAt;
@@ -0,0 +1,19 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety;
+
+/**
+ * One post of a thread conversation, in depth-first order.
+ *
+ * @param depth         0 for top-level posts (or the requested root post)
+ * @param path          materialized path of zero-padded sibling positions ("0001.0003"); sorting by it
+ *                      reproduces the depth-first order
+ * @param replyCount    live direct replies of the post
+ * @param hiddenReplies direct replies cut off by the child cap or depth limit; load them through
+ *                      the flat post listing with parent_post_id
+ */
+public record ReplyTreeNode(
+        PostResponse post,
+        int depth,
+        String path,
+        long replyCount,
+        long hiddenReplies
+) {}
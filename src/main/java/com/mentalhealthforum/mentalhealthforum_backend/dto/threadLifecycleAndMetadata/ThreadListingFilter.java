@@ -0,0 +1,50 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Normalized filter set for thread listings.
+ * Null fields mean "no filter"; enum filters are carried by their Postgres label.
+ */
+public record ThreadListingFilter(
+        UUID viewerId,
+        boolean isAdmin,
+        boolean isModeratorOrAdmin,
+        boolean isVerified,
+        UUID categoryId,
+        UUID creatorId,
+        String threadType,
+        String threadStatus,
+        Boolean isDeleted,
+        Boolean isFeatured,
+        Boolean hasContentWarning,
+        Boolean isBookmarked,
+        Boolean isWatched,
+        UUID categoryTagId,
+        String search
+) {
+
+    public ViewerTier tier() {
+        return ViewerTier.of(viewerId != null, isVerified, isModeratorOrAdmin, isAdmin);
+    }
+
+    /**
+     * Normalized key for cached counts. The viewer's identity only changes the result for
+     * bookmark/watch filters; otherwise only their visibility tier matters.
+     */
+    public String countKey() {
+        boolean viewerSpecific = isBookmarked != null || isWatched != null;
+        return Arrays.asList(
+                viewerSpecific ? viewerId : null,
+                tier(),
+                categoryId, creatorId, threadType, threadStatus,
+                isDeleted, isFeatured, hasContentWarning,
+                isBookmarked, isWatched, categoryTagId,
+                search != null ? search.toLowerCase(Locale.ROOT) : null
+        ).toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.CategoryTagWithCategoryId;
+import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadEntity;
+
+import java.util.List;
+
+/**
+ * A thread together with everything a {@link ThreadResponse} needs, loaded in one round trip.
+ *
+ * @param category      id, name and slug only; null if the category row is gone
+ * @param creator       keycloak id plus the fields behind the public identifier and avatar; null if missing
+ * @param categoryTags  tags of the thread's category, ordered by name
+ */
+public record ThreadReadModel(
+        ThreadEntity thread,
+        CategoryEntity category,
+        AppUserEntity creator,
+        boolean isBookmarked,
+        long bookmarkCount,
+        boolean isWatched,
+        List<CategoryTagWithCategoryId> categoryTags
+) {}
@@ -63,4 +63,7 @@ public class ThreadResponse {
     private Instant updatedAt;
     private Instant lastActivityAt;
 
+    // Search match score; only set when the listing is sorted by relevance
+    private Double searchScore;
+
 }
@@ -59,6 +59,7 @@ public enum ErrorCode {
 
     // --- Pagination Error ---
     INVALID_PAGINATION(HttpStatus.BAD_REQUEST, "Invalid pagination parameters. Page and size must be valid and positive."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "The pagination cursor is invalid or does not match the requested sort."),
 
     // Authentication Failure (401)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Authentication failed. Invalid or missing credentials."),
@@ -0,0 +1,11 @@
+package com.mentalhealthforum.mentalhealthforum_backend.enums;
+
+/**
+ * Entity kinds covered by global search; the name is the {@code entityType} of each result.
+ */
+public enum SearchEntityType {
+    THREAD,
+    POST,
+    CATEGORY,
+    PROFILE
+}
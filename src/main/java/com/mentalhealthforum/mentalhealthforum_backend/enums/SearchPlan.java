@@ -0,0 +1,19 @@
+package com.mentalhealthforum.mentalhealthforum_backend.enums;
+
+/**
+ * How a global search query is executed, chosen by SearchQueryPlanner from the estimated share of
+ * posts its terms match. Threads, categories and profiles are always searched in full; only the
+ * posts branch is degraded, so a broad query still gets an answer.
+ */
+public enum SearchPlan {
+    FULL,           // Selective query: every branch searched in full
+    RECENT_POSTS,   // Broad query: posts bounded to the recent window
+    SKIP_POSTS;     // Very broad query or long OR-chain: posts branch not run
+
+    /**
+     * Whether the plan leaves posts out or cuts them short, so the result is not exhaustive.
+     */
+    public boolean restrictsPosts() {
+        return this == RECENT_POSTS || this == SKIP_POSTS;
+    }
+}
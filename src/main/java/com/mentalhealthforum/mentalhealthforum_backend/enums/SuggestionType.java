@@ -0,0 +1,11 @@
+package com.mentalhealthforum.mentalhealthforum_backend.enums;
+
+/**
+ * Entity kinds offered by search-as-you-type suggestions; the name is the {@code entityType} of each suggestion.
+ */
+public enum SuggestionType {
+    THREAD,
+    CATEGORY,
+    TAG,
+    PROFILE
+}
@@ -0,0 +1,54 @@
+package com.mentalhealthforum.mentalhealthforum_backend.enums;
+
+/**
+ * Coarse visibility tier of a viewer, used to resolve which categories they can see.
+ * A tier is the combination of the viewer's flags; verification and moderation roles are
+ * independent, so VERIFIED_ONLY categories follow {@code isVerified} alone.
+ */
+public enum ViewerTier {
+    ANONYMOUS(false, false, false, false),          // Not logged in
+    MEMBER(true, false, false, false),              // Logged in
+    VERIFIED(true, true, false, false),             // Trusted member, peer supporter
+    MODERATOR(true, false, true, false),            // Moderator
+    VERIFIED_MODERATOR(true, true, true, false),    // Moderator who is also verified
+    ADMIN(true, false, true, true),                 // Admin
+    VERIFIED_ADMIN(true, true, true, true);         // Admin who is also verified
+
+    private final boolean member;
+    private final boolean verified;
+    private final boolean moderatorOrAdmin;
+    private final boolean admin;
+
+    ViewerTier(boolean member, boolean verified, boolean moderatorOrAdmin, boolean admin) {
+        this.member = member;
+        this.verified = verified;
+        this.moderatorOrAdmin = moderatorOrAdmin;
+        this.admin = admin;
+    }
+
+    public static ViewerTier of(boolean isAuthenticated, boolean isVerified, boolean isModeratorOrAdmin, boolean isAdmin) {
+        if (!isAuthenticated) return ANONYMOUS;
+        if (isAdmin) return isVerified ? VERIFIED_ADMIN : ADMIN;
+        if (isModeratorOrAdmin) return isVerified ? VERIFIED_MODERATOR : MODERATOR;
+        return isVerified ? VERIFIED : MEMBER;
+    }
+
+    public boolean isMember() {
+        return member;
+    }
+
+    public boolean isModeratorOrAdmin() {
+        return moderatorOrAdmin;
+    }
+
+    public boolean canView(ViewAccess viewAccess) {
+        ViewAccess effective = viewAccess != null ? viewAccess : ViewAccess.MEMBERS_ONLY;
+        return switch (effective) {
+            case PUBLIC -> true;
+            case MEMBERS_ONLY -> member;
+            case VERIFIED_ONLY -> verified;
+            case MODERATORS_ONLY -> moderatorOrAdmin;
+            case ADMINS_ONLY -> admin;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.mentalhealthforum.mentalhealthforum_backend.enums.listings;
+
+import lombok.Getter;
+
+/**
+ * How a paginated listing computes its total.
+ *
+ * <ul>
+ *     <li>EXACT: run the COUNT(*) query (default, previous behaviour)</li>
+ *     <li>ESTIMATED: planner row estimate; listings without a dynamic query builder fall back to CACHED</li>
+ *     <li>HAS_MORE: no total; fetch size+1 rows and report only whether another page exists</li>
+ *     <li>CACHED: exact count reused for a short TTL per normalized filter tuple</li>
+ * </ul>
+ */
+@Getter
+public enum CountStrategy {
+    EXACT("exact"),
+    ESTIMATED("estimated"),
+    HAS_MORE("has_more"),
+    CACHED("cached");
+
+    private final String value;
+
+    CountStrategy(String value) {
+        this.value = value;
+    }
+
+    public static CountStrategy fromString(String value) {
+        if(value == null){
+            return EXACT;
+        }
+        for(CountStrategy strategy : CountStrategy.values()){
+            if(strategy.getValue().equalsIgnoreCase(value) || strategy.name().equalsIgnoreCase(value)){
+                return strategy;
+            }
+        }
+        return EXACT;
+    }
+}
@@ -6,17 +6,22 @@ import lombok.Getter;
 @Getter
 public enum PostSortField {
 
-    CREATED_AT("created_at", "created at", "ASC"),
-    UPDATED_AT("updated_at", "updated at", "DESC");
+    CREATED_AT("created_at", "created at", "ASC", "p.created_at", SortKeyType.TIMESTAMP),
+    UPDATED_AT("updated_at", "updated at", "DESC", "p.updated_at", SortKeyType.TIMESTAMP);
 
     private final String value;
     private final String label;
     private final String defaultDirection;
+    // Typed column the listing query sorts on (never cast to text)
+    private final String column;
+    private final SortKeyType keyType;
 
-    PostSortField(String value, String label, String defaultDirection) {
+    PostSortField(String value, String label, String defaultDirection, String column, SortKeyType keyType) {
         this.value = value;
         this.label = label;
         this.defaultDirection = defaultDirection;
+        this.column = column;
+        this.keyType = keyType;
     }
 
     public static PostSortField fromString(String value) {
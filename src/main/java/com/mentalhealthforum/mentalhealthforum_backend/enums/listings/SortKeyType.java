@@ -0,0 +1,33 @@
+package com.mentalhealthforum.mentalhealthforum_backend.enums.listings;
+
+import java.time.Instant;
+
+/**
+ * Java-side type of a listing sort column.
+ * Used to round-trip sort keys through opaque pagination cursors without
+ * losing the typed comparison the seek predicate relies on.
+ */
+public enum SortKeyType {
+    TIMESTAMP,
+    INTEGER,
+    DECIMAL,
+    TEXT;
+
+    public Object parse(String value) {
+        return switch (this) {
+            case TIMESTAMP -> Instant.parse(value);
+            case INTEGER -> Integer.parseInt(value);
+            case DECIMAL -> Double.parseDouble(value);
+            case TEXT -> value;
+        };
+    }
+
+    public Class<?> javaType() {
+        return switch (this) {
+            case TIMESTAMP -> Instant.class;
+            case INTEGER -> Integer.class;
+            case DECIMAL -> Double.class;
+            case TEXT -> String.class;
+        };
+    }
+}
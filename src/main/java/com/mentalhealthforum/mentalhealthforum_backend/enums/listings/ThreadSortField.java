@@ -3,22 +3,34 @@ package com.mentalhealthforum.mentalhealthforum_backend.enums.listings;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.SortOption;
 import lombok.Getter;
 
+/**
+ * Thread listing sorts. Each default direction, plus created_at ASC and title DESC, has a matching
+ * index in {@code db/listing_sort_indexes.sql}; last_activity_at, post_count and view_count ASC
+ * (and relevance) are not index-backed and sort the filtered set.
+ */
 @Getter
 public enum ThreadSortField {
-    CREATED_AT("created_at", "created at", "DESC"),
-    LAST_ACTIVITY_AT("last_activity_at", "last activity at", "DESC"),
-    POST_COUNT("post_count", "post count", "DESC"),
-    VIEW_COUNT("view_count", "view count", "DESC"),
-    TITLE("title", "title", "ASC");
+    CREATED_AT("created_at", "created at", "DESC", "t.created_at", SortKeyType.TIMESTAMP),
+    LAST_ACTIVITY_AT("last_activity_at", "last activity at", "DESC", "t.last_activity_at", SortKeyType.TIMESTAMP),
+    POST_COUNT("post_count", "post count", "DESC", "t.post_count", SortKeyType.INTEGER),
+    VIEW_COUNT("view_count", "view count", "DESC", "t.view_count", SortKeyType.INTEGER),
+    TITLE("title", "title", "ASC", "t.title", SortKeyType.TEXT),
+    // Search match quality; score computed once per row by ThreadListingRepository (only with a search)
+    RELEVANCE("relevance", "relevance", "DESC", "t.search_score", SortKeyType.DECIMAL);
 
     private final String value;
     private final String label;
     private final String defaultDirection;
+    // Typed column the listing query sorts and seeks on (never cast to text)
+    private final String column;
+    private final SortKeyType keyType;
 
-    ThreadSortField(String value, String label, String defaultDirection) {
+    ThreadSortField(String value, String label, String defaultDirection, String column, SortKeyType keyType) {
         this.value = value;
         this.label = label;
         this.defaultDirection = defaultDirection;
+        this.column = column;
+        this.keyType = keyType;
     }
 
     public static ThreadSortField fromString(String value) {
@@ -33,6 +45,13 @@ public enum ThreadSortField {
         return  LAST_ACTIVITY_AT;
     }
 
+    /**
+     * Relevance needs a search to rank against; without one the listing falls back to recent activity.
+     */
+    public ThreadSortField forSearch(String search) {
+        return this == RELEVANCE && search == null ? LAST_ACTIVITY_AT : this;
+    }
+
     public String determineSortDirection(String sortDirection){
         if(sortDirection != null){
             return "desc".equalsIgnoreCase(sortDirection) ? "DESC" : "ASC";
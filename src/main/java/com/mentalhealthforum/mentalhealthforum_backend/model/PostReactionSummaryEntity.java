@@ -0,0 +1,58 @@
+package com.mentalhealthforum.mentalhealthforum_backend.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-post reaction counters, one integer per {@link ReactionType} in {@code counts}.
+ * Written only through PostReactionSummaryRepository.applyDelta.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("post_reaction_summaries")
+public class PostReactionSummaryEntity {
+
+    @Id
+    @Column("post_id")
+    private UUID postId;
+
+    @Column("counts")
+    private JsonNode counts;
+
+    @Column("total_count")
+    private Integer totalCount;
+
+    @Column("updated_at")
+    private Instant updatedAt;
+
+    /**
+     * Count per reaction type; types nobody used are absent. Unknown keys are skipped.
+     */
+    public Map<ReactionType, Integer> countsByType() {
+        Map<ReactionType, Integer> byType = new EnumMap<>(ReactionType.class);
+        if (counts == null) {
+            return byType;
+        }
+        for (ReactionType type : ReactionType.values()) {
+            int count = counts.path(type.name()).asInt(0);
+            if (count > 0) {
+                byType.put(type, count);
+            }
+        }
+        return byType;
+    }
+}
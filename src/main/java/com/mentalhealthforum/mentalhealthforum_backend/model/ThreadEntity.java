@@ -111,6 +111,11 @@ public class ThreadEntity {
     @Column("last_activity_at")
     private Instant lastActivityAt;
 
+    // --- Transient / helper fields ---
+    // Listing search score, only populated when sorted by relevance
+    @Transient
+    private Double searchScore;
+
     // --- JSONB Getter/Setter ---
     public ThreadSettings getThreadSettings(){
         if(threadSettingsJson == null || threadSettingsJson.isEmpty()){
@@ -37,6 +37,27 @@ public interface CategoryRepository extends R2dbcRepository<CategoryEntity, UUID
     Mono<Boolean> existsBySlugAndIdNot(@Param("slug") String slug, @Param("excludedCategoryId") UUID excludedCategoryId);
 
 
+    // ==================== SEARCH DOCUMENT ====================
+
+    /**
+     * Rebuilds search_document (name A, description B, tag names A) for the given categories.
+     * Called after every category or tag write that can change it; see db/search_tsvector_columns.sql.
+     */
+    @Query("""
+        UPDATE forum_categories c
+        SET search_document =
+            setweight(to_tsvector('public.english_unaccent', coalesce(c.name, '')), 'A') ||
+            setweight(to_tsvector('public.english_unaccent', coalesce(c.description, '')), 'B') ||
+            setweight(to_tsvector('public.english_unaccent', coalesce((
+                SELECT string_agg(ct.name, ' ')
+                FROM category_tag_assignments cta
+                JOIN category_tags ct ON cta.tag_id = ct.id
+                WHERE cta.category_id = c.id
+            ), '')), 'A')
+        WHERE c.id = ANY(:categoryIds)
+    """)
+    Mono<Integer> refreshSearchDocuments(@Param("categoryIds") UUID[] categoryIds);
+
     // ==================== ACTIVE / INACTIVE ====================
 
     Flux<CategoryEntity> findByIsActiveTrueOrderBySortOrderAsc();
@@ -0,0 +1,202 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.CategoryTagWithCategoryId;
+import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * In-memory snapshot of the category tree (any depth), with each category's tags and non-deleted
+ * thread count, loaded by one recursive query.
+ *
+ * <p>Every category is loaded and activity is applied per node: roots and children lists only hold
+ * active categories, but inactive ones stay reachable through {@link Snapshot#byId()}, so the
+ * active children of an inactive parent can still be listed.
+ *
+ * <p>Category and tag-assignment writes call {@link #invalidate()}; the short TTL keeps thread counts
+ * (which change on every thread write) and other instances' writes reasonably fresh.
+ */
+@Component
+public class CategoryTreeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryTreeCache.class);
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(1);
+
+    // Guards against parent cycles; the hierarchy is far shallower than this in practice
+    private static final int MAX_DEPTH = 16;
+
+    private static final String TREE_SQL = """
+            WITH RECURSIVE tree AS (
+                SELECT c.*, 0 AS depth
+                FROM forum_categories c
+                WHERE c.parent_category_id IS NULL
+                UNION ALL
+                SELECT c.*, tree.depth + 1
+                FROM forum_categories c
+                JOIN tree ON c.parent_category_id = tree.id
+                WHERE tree.depth < :maxDepth
+            )
+            SELECT tree.*,
+                   (SELECT COUNT(*) FROM forum_threads t
+                    WHERE t.category_id = tree.id AND t.is_deleted = false) AS thread_count,
+                   tags.category_tags
+            FROM tree
+            LEFT JOIN LATERAL (
+                SELECT jsonb_agg(jsonb_build_object(
+                           'id', ct.id,
+                           'name', ct.name,
+                           'slug', ct.slug,
+                           'description', ct.description,
+                           'created_by', ct.created_by,
+                           'created_at', (extract(epoch FROM ct.created_at) * 1000)::bigint,
+                           'updated_at', (extract(epoch FROM ct.updated_at) * 1000)::bigint)
+                       ORDER BY ct.name)::text AS category_tags
+                FROM category_tags ct
+                JOIN category_tag_assignments a ON a.tag_id = ct.id
+                WHERE a.category_id = tree.id
+            ) tags ON TRUE
+            ORDER BY tree.depth, tree.sort_order
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+
+    private volatile Mono<Snapshot> snapshot;
+
+    public CategoryTreeCache(DatabaseClient databaseClient, R2dbcConverter r2dbcConverter) {
+        this.databaseClient = databaseClient;
+        this.r2dbcConverter = r2dbcConverter;
+        this.snapshot = newSnapshot();
+    }
+
+    /**
+     * One category in the tree. Children are its active child categories, ordered by sort order.
+     */
+    public record Node(
+            CategoryEntity category,
+            List<CategoryTagWithCategoryId> tags,
+            long threadCount,
+            List<Node> children
+    ) {}
+
+    /**
+     * @param roots  active root categories, ordered by sort order
+     * @param byId   every node in the tree, active or not
+     */
+    public record Snapshot(List<Node> roots, Map<UUID, Node> byId) {
+
+        /**
+         * Ids of the active categories.
+         */
+        public List<UUID> categoryIds() {
+            return byId.values().stream()
+                    .filter(node -> isActive(node.category()))
+                    .map(node -> node.category().getId())
+                    .toList();
+        }
+    }
+
+    public Mono<Snapshot> snapshot() {
+        return snapshot;
+    }
+
+    public void invalidate() {
+        log.debug("Category tree cache invalidated");
+        this.snapshot = newSnapshot();
+    }
+
+    private Mono<Snapshot> newSnapshot() {
+        return databaseClient.sql(TREE_SQL)
+                .bind("maxDepth", MAX_DEPTH)
+                .map(this::mapRow)
+                .all()
+                .collectList()
+                .map(this::buildTree)
+                .cache(value -> SNAPSHOT_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private FlatNode mapRow(Row row, RowMetadata metadata) {
+        CategoryEntity category = r2dbcConverter.read(CategoryEntity.class, row, metadata);
+        Long threadCount = row.get("thread_count", Long.class);
+        return new FlatNode(
+                category,
+                parseTags(category.getId(), row.get("category_tags", String.class)),
+                threadCount != null ? threadCount : 0L
+        );
+    }
+
+    /**
+     * Rows arrive parents-first (ordered by depth, then sort order). Walking them backwards builds
+     * every child before its parent, so each node is created with its final, immutable children list.
+     */
+    private Snapshot buildTree(List<FlatNode> rows) {
+        Map<UUID, List<Node>> childrenById = new HashMap<>();
+        Map<UUID, Node> byId = new HashMap<>();
+        List<Node> roots = new ArrayList<>();
+
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            FlatNode row = rows.get(i);
+            UUID id = row.category().getId();
+
+            // Children were collected in reverse sort order
+            List<Node> children = new ArrayList<>(childrenById.getOrDefault(id, List.of()));
+            Collections.reverse(children);
+
+            Node node = new Node(row.category(), row.tags(), row.threadCount(), List.copyOf(children));
+            byId.put(id, node);
+
+            if (!isActive(row.category())) {
+                continue;
+            }
+            UUID parentId = row.category().getParentCategoryId();
+            if (parentId == null) {
+                roots.add(node);
+            } else {
+                childrenById.computeIfAbsent(parentId, key -> new ArrayList<>()).add(node);
+            }
+        }
+        Collections.reverse(roots);
+
+        log.debug("Category tree loaded: {} categories, {} roots", byId.size(), roots.size());
+        return new Snapshot(List.copyOf(roots), Map.copyOf(byId));
+    }
+
+    private static boolean isActive(CategoryEntity category) {
+        return Boolean.TRUE.equals(category.getIsActive());
+    }
+
+    private List<CategoryTagWithCategoryId> parseTags(UUID categoryId, String json) {
+        if (json == null) {
+            return List.of();
+        }
+        List<CategoryTagWithCategoryId> tags = new ArrayList<>();
+        for (JsonNode tag : JsonUtils.jsonStringToJsonNode(json)) {
+            tags.add(new CategoryTagWithCategoryId(
+                    categoryId,
+                    UUID.fromString(tag.path("id").asText()),
+                    tag.path("name").asText(null),
+                    tag.path("slug").asText(null),
+                    tag.path("description").asText(null),
+                    tag.hasNonNull("created_by") ? UUID.fromString(tag.get("created_by").asText()) : null,
+                    tag.hasNonNull("created_at") ? Instant.ofEpochMilli(tag.get("created_at").asLong()) : null,
+                    tag.hasNonNull("updated_at") ? Instant.ofEpochMilli(tag.get("updated_at").asLong()) : null
+            ));
+        }
+        return List.copyOf(tags);
+    }
+
+    private record FlatNode(CategoryEntity category, List<CategoryTagWithCategoryId> tags, long threadCount) {}
+}
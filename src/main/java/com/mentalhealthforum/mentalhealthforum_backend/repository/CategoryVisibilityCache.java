@@ -0,0 +1,68 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
+import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Visible category ids per {@link ViewerTier}, resolved once from the active categories'
+ * {@code participation_requirements.viewAccess} instead of per row in every listing query.
+ *
+ * <p>Category writes call {@link #invalidate()}; the TTL only bounds staleness from writes made by
+ * another instance.
+ */
+@Component
+public class CategoryVisibilityCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryVisibilityCache.class);
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(5);
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Mono<Map<ViewerTier, UUID[]>> snapshot;
+
+    public CategoryVisibilityCache(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+        this.snapshot = newSnapshot();
+    }
+
+    /**
+     * Ids of the active categories the tier can view, ready to bind as {@code = ANY(:visibleIds)}.
+     */
+    public Mono<UUID[]> visibleCategoryIds(ViewerTier tier) {
+        return snapshot.map(byTier -> byTier.get(tier));
+    }
+
+    public void invalidate() {
+        log.debug("Category visibility cache invalidated");
+        this.snapshot = newSnapshot();
+    }
+
+    private Mono<Map<ViewerTier, UUID[]>> newSnapshot() {
+        return categoryRepository.findByIsActiveTrueOrderBySortOrderAsc()
+                .collectList()
+                .map(this::groupByTier)
+                .cache(value -> SNAPSHOT_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private Map<ViewerTier, UUID[]> groupByTier(List<CategoryEntity> categories) {
+        Map<ViewerTier, UUID[]> byTier = new EnumMap<>(ViewerTier.class);
+        for (ViewerTier tier : ViewerTier.values()) {
+            byTier.put(tier, categories.stream()
+                    .filter(category -> tier.canView(category.getParticipationRequirements().getViewAccess()))
+                    .map(CategoryEntity::getId)
+                    .toArray(UUID[]::new));
+        }
+        return byTier;
+    }
+}
@@ -1,110 +1,341 @@
 package com.mentalhealthforum.mentalhealthforum_backend.repository;
 
 import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchHit;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchResult;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SearchEntityType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Global search queries, one per {@link SearchEntityType}.
+ *
+ * <p>Each branch returns only ids, scores and activity, ordered and bounded by its own LIMIT so the
+ * caller can run them in parallel and merge them; {@link #hydrate} then builds headers and previews
+ * for the returned page only. Matching and ranking use the stored, GIN-indexed tsvector columns
+ * (db/search_tsvector_columns.sql).
+ *
+ * <p>{@link #findHits} depends only on the viewer's {@link ViewerTier}, so its results can be shared
+ * between viewers; the few rows that depend on the individual viewer come from
+ * {@link #findPrivateProfileHits}.
+ */
 @Repository
 public class GlobalSearchRepository {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalSearchRepository.class);
 
+    // PERFORMANCE OPTIMIZATION: websearch_to_tsquery called ONCE per query via CTE
+    private static final String QUERY_TOKEN_CTE = """
+            WITH query_token AS (
+                SELECT websearch_to_tsquery('public.english_unaccent', :query) AS tsquery,
+                       websearch_to_tsquery('public.simple_unaccent', :query) AS tsquery_simple
+            )
+            """;
+
+    private static final String THREAD_HITS_SQL = """
+            SELECT
+                t.id AS entity_id,
+                ts_rank(t.search_vector, (SELECT tsquery FROM query_token)) AS search_score,
+                t.last_activity_at AS last_activity_at
+            FROM forum_threads t
+            WHERE t.is_deleted = FALSE
+                AND t.search_vector @@ (SELECT tsquery FROM query_token)
+
+                -- Category visibility: active categories visible to the viewer's tier (resolved in Java)
+                AND t.category_id = ANY(:visibleIds)
+            """;
+
+    private static final String POST_HITS_SQL = """
+            SELECT
+                p.id AS entity_id,
+                ts_rank(p.search_vector, (SELECT tsquery FROM query_token)) AS search_score,
+                p.created_at AS last_activity_at
+            FROM forum_posts p
+            INNER JOIN forum_threads t ON p.thread_id = t.id
+            WHERE p.is_deleted = FALSE
+                AND p.flagged_for_review = FALSE
+                AND p.search_vector @@ (SELECT tsquery FROM query_token)
+
+                -- Thread must not be deleted
+                AND t.is_deleted = FALSE
+
+                -- Category visibility (same as threads)
+                AND t.category_id = ANY(:visibleIds)
+            """;
+
+    // Appended to POST_HITS_SQL by the RECENT_POSTS plan
+    private static final String RECENT_POSTS_FILTER = """
+                AND p.created_at >= :createdSince
+            """;
+
+    // search_document holds name, description and tag names (maintained by CategoryRepository.refreshSearchDocuments)
+    private static final String CATEGORY_HITS_SQL = """
+            SELECT
+                c.id AS entity_id,
+                ts_rank(c.search_document, (SELECT tsquery FROM query_token)) AS search_score,
+                c.created_at AS last_activity_at
+            FROM forum_categories c
+            WHERE c.search_document @@ (SELECT tsquery FROM query_token)
+
+                -- Category visibility (same as threads)
+                AND c.id = ANY(:visibleIds)
+            """;
+
+    // Profiles whose visibility follows from the viewer's tier alone (shareable across viewers)
+    private static final String PROFILE_HITS_SQL = """
+            SELECT
+                u.id AS entity_id,
+                ts_rank(
+                    u.search_name_vector || u.search_bio_vector,
+                    (SELECT tsquery FROM query_token)
+                ) AS search_score,
+                u.last_active_at AS last_activity_at
+            FROM app_users u
+            WHERE u.is_active = TRUE
+                AND u.account_deletion_requested_at IS NULL
+                AND (
+                      u.search_name_vector @@ (SELECT tsquery_simple FROM query_token) OR
+                      u.search_bio_vector @@ (SELECT tsquery FROM query_token)
+                )
+
+                -- Privacy filter
+                AND (
+                    -- MEMBERS_ONLY: viewer must be logged in
+                    (u.profile_visibility = 'MEMBERS_ONLY' AND :isMember = TRUE)
+
+                    -- PRIVATE: admin or moderator
+                    OR (u.profile_visibility = 'PRIVATE' AND :isModeratorOrAdmin = TRUE)
+                )
+            """;
+
+    // PRIVATE profiles visible to one viewer only: their own, or a mutual connection's
+    private static final String PRIVATE_PROFILE_HITS_SQL = """
+            SELECT
+                u.id AS entity_id,
+                ts_rank(
+                    u.search_name_vector || u.search_bio_vector,
+                    (SELECT tsquery FROM query_token)
+                ) AS search_score,
+                u.last_active_at AS last_activity_at
+            FROM app_users u
+            WHERE u.is_active = TRUE
+                AND u.account_deletion_requested_at IS NULL
+                AND (
+                      u.search_name_vector @@ (SELECT tsquery_simple FROM query_token) OR
+                      u.search_bio_vector @@ (SELECT tsquery FROM query_token)
+                )
+                AND u.profile_visibility = 'PRIVATE'
+                AND (
+                    -- Owner
+                    u.keycloak_id = :viewerId
+
+                    -- Mutual connection (ACCEPTED)
+                    OR EXISTS (
+                        SELECT 1 FROM user_connections uc
+                        WHERE (
+                            (uc.user_1 = u.keycloak_id AND uc.user_2 = :viewerId) OR
+                            (uc.user_1 = :viewerId AND uc.user_2 = u.keycloak_id)
+                        )
+                        AND uc.status = 'ACCEPTED'::connection_status_enum
+                    )
+                )
+            """;
+
     private final DatabaseClient databaseClient;
+    private final CategoryVisibilityCache categoryVisibilityCache;
 
-    public GlobalSearchRepository(DatabaseClient databaseClient) {
+    public GlobalSearchRepository(DatabaseClient databaseClient, CategoryVisibilityCache categoryVisibilityCache) {
         this.databaseClient = databaseClient;
+        this.categoryVisibilityCache = categoryVisibilityCache;
+    }
+
+    /**
+     * Viewer attributes the branch queries filter on, resolved once per search.
+     */
+    public record SearchViewer(UUID viewerId, boolean isAdmin, boolean isModeratorOrAdmin, ViewerTier tier) {
+
+        public static SearchViewer of(ViewerContext viewerContext) {
+            // High performance Java Pre-evaluation
+            UUID viewerId = null;
+            boolean isAdmin = false;
+            boolean isModeratorOrAdmin = false;
+            boolean isVerified = false;
+
+            if(viewerContext != null && viewerContext.getUserId() != null){
+               try{
+                   viewerId = UUID.fromString(viewerContext.getUserId());
+                   isAdmin = viewerContext.isAdmin();
+                   isModeratorOrAdmin = viewerContext.isModeratorOrAdmin();
+                   isVerified = viewerContext.isVerified();
+               } catch (IllegalArgumentException e){
+                   log.error("Failed to parse viewer keycloak UUID string from context: {}", viewerContext.getUserId());
+               }
+            }
+
+            // Visible categories are resolved once per viewer tier instead of per row
+            ViewerTier tier = ViewerTier.of(viewerId != null, isVerified, isModeratorOrAdmin, isAdmin);
+            return new SearchViewer(viewerId, isAdmin, isModeratorOrAdmin, tier);
+        }
+
+        /**
+         * Whether PRIVATE profiles reachable only through this viewer's own identity or connections
+         * must be searched on top of the tier-wide results.
+         */
+        public boolean hasPersonalProfileScope() {
+            return viewerId != null && !tier.isModeratorOrAdmin();
+        }
     }
 
-    public Mono<Slice<GlobalSearchResult>> executeLiveSearch(
+    /**
+     * Top {@code limit} matches of one entity type that every viewer of {@code tier} can see,
+     * ordered by relevance, or by recency when {@code sortBy} is "recent". Ties break on entity_id.
+     */
+    public Flux<GlobalSearchHit> findHits(
+            SearchEntityType entityType,
             String rawQuery,
             String sortBy,
-            Pageable pageable,
-            ViewerContext viewerContext){
-
-        // High performance Java Pre-evaluation
-        UUID viewerId = null;
-        boolean isAdmin = false;
-        boolean isModeratorOrAdmin = false;
-        boolean isVerified = false;
-
-        if(viewerContext != null && viewerContext.getUserId() != null){
-           try{
-               viewerId = UUID.fromString(viewerContext.getUserId());
-               isAdmin = viewerContext.isAdmin();
-               isModeratorOrAdmin = viewerContext.isModeratorOrAdmin();
-               isVerified = viewerContext.isVerified();
-           } catch (IllegalArgumentException e){
-               log.error("Failed to parse viewer keycloak UUID string from context: {}", viewerContext.getUserId());
-           }
+            int limit,
+            ViewerTier tier) {
+
+        String branchSql = switch (entityType) {
+            case THREAD -> THREAD_HITS_SQL;
+            case POST -> POST_HITS_SQL;
+            case CATEGORY -> CATEGORY_HITS_SQL;
+            case PROFILE -> PROFILE_HITS_SQL;
+        };
+        String dataSql = branchQuery(branchSql, sortBy);
+
+        log.debug("Search {} branch: query '{}', sortBy '{}', limit {}", entityType, rawQuery, sortBy, limit);
+
+        if (entityType == SearchEntityType.PROFILE) {
+            return fetchHits(databaseClient.sql(dataSql)
+                    .bind("query", rawQuery)
+                    .bind("isMember", tier.isMember())
+                    .bind("isModeratorOrAdmin", tier.isModeratorOrAdmin())
+                    .bind("limit", limit), entityType);
         }
-        
-        // Resolve sorting boundaries. Safe, optimized outer execution sorting valuables
-        String orderByClause= "search_score DESC, header ASC"; // relevance
-        if("recent".equalsIgnoreCase(sortBy)){
-            orderByClause = "last_activity_at DESC NULLS LAST, header ASC";
+
+        return categoryVisibilityCache.visibleCategoryIds(tier)
+                .flatMapMany(visibleIds -> fetchHits(databaseClient.sql(dataSql)
+                        .bind("query", rawQuery)
+                        .bind("visibleIds", visibleIds)
+                        .bind("limit", limit), entityType));
+    }
+
+    /**
+     * Same as {@link #findHits} for posts, restricted to posts created since {@code createdSince}.
+     * Used when the query is too broad to rank every matching post.
+     */
+    public Flux<GlobalSearchHit> findRecentPostHits(
+            String rawQuery,
+            String sortBy,
+            int limit,
+            ViewerTier tier,
+            Instant createdSince) {
+
+        String dataSql = branchQuery(POST_HITS_SQL + RECENT_POSTS_FILTER, sortBy);
+
+        log.debug("Search recent POST branch: query '{}', sortBy '{}', limit {}, since {}", rawQuery, sortBy, limit, createdSince);
+
+        return categoryVisibilityCache.visibleCategoryIds(tier)
+                .flatMapMany(visibleIds -> fetchHits(databaseClient.sql(dataSql)
+                        .bind("query", rawQuery)
+                        .bind("visibleIds", visibleIds)
+                        .bind("createdSince", createdSince)
+                        .bind("limit", limit), SearchEntityType.POST));
+    }
+
+    /**
+     * Top {@code limit} PRIVATE profiles visible to this viewer only (own profile or mutual
+     * connections), in the same order as {@link #findHits}. Moderators and admins already get
+     * every PRIVATE profile from the tier query.
+     */
+    public Flux<GlobalSearchHit> findPrivateProfileHits(String rawQuery, String sortBy, int limit, UUID viewerId) {
+        log.debug("Search private profile branch: query '{}', sortBy '{}', limit {}", rawQuery, sortBy, limit);
+
+        return fetchHits(databaseClient.sql(branchQuery(PRIVATE_PROFILE_HITS_SQL, sortBy))
+                .bind("query", rawQuery)
+                .bind("viewerId", viewerId)
+                .bind("limit", limit), SearchEntityType.PROFILE);
+    }
+
+    private String branchQuery(String branchSql, String sortBy) {
+        // Resolve sorting boundaries
+        String orderByClause = "recent".equalsIgnoreCase(sortBy)
+                ? "last_activity_at DESC NULLS LAST, entity_id ASC"
+                : "search_score DESC, entity_id ASC"; // relevance
+
+        return QUERY_TOKEN_CTE + branchSql + " ORDER BY " + orderByClause + " LIMIT :limit";
+    }
+
+    private Flux<GlobalSearchHit> fetchHits(DatabaseClient.GenericExecuteSpec executeSpec, SearchEntityType entityType) {
+        return executeSpec
+                .map((row, metadata) -> {
+                    LocalDateTime dateTime = row.get("last_activity_at", LocalDateTime.class);
+                    Instant instant = (dateTime != null)? dateTime.toInstant(ZoneOffset.UTC) : null;
+
+                    return new GlobalSearchHit(
+                            row.get("entity_id", UUID.class),
+                            entityType,
+                            row.get("search_score", Double.class),
+                            instant
+                    );
+                })
+                .all();
+    }
+
+    // ==================== PAGE HYDRATION ====================
+
+    /**
+     * Builds headers and ts_headline previews for the page's hits only, in one query keyed by id arrays,
+     * and returns the results in the hits' order. Hits whose row disappeared in between are dropped.
+     */
+    public Mono<List<GlobalSearchResult>> hydrate(List<GlobalSearchHit> hits, String rawQuery) {
+        return hydrateStream(hits, rawQuery).collectList();
+    }
+
+    /**
+     * Same as {@link #hydrate}, but emits each result as soon as its row arrives from the database.
+     */
+    public Flux<GlobalSearchResult> hydrateStream(List<GlobalSearchHit> hits, String rawQuery) {
+        if (hits.isEmpty()) {
+            return Flux.empty();
         }
 
-        // Entirely consolidated security core search query over active relational states
-        String coreSearchUnionSql = """
-                -- PERFORMANCE OPTIMIZATION: websearch_to_tsquery called ONCE via CTE
- 
+        Map<String, GlobalSearchHit> hitsByKey = hits.stream()
+                .collect(Collectors.toMap(this::hitKey, Function.identity(), (first, second) -> first));
+
+        String previewSql = """
                 WITH query_token AS (
-                    SELECT websearch_to_tsquery('public.english_unaccent', :query) AS tsquery,
-                           websearch_to_tsquery('public.simple_unaccent', :query) AS tsquery_simple
+                    SELECT websearch_to_tsquery('public.english_unaccent', :query) AS tsquery
                 )
-                
-                -- 1. THREADS
+
+                SELECT * FROM (
                 SELECT
                     t.id AS entity_id,
                     'THREAD'::TEXT AS entity_type,
                     t.title AS header,
-                    ts_headline('public.english_unaccent', coalesce(t.title, ''), (SELECT tsquery FROM query_token), 'MaxWords=25, StartSel=<b>, StopSel=</b>')::TEXT AS body_preview,
-                    ts_rank(
-                        setweight(to_tsvector('public.english_unaccent', coalesce(t.title, '')), 'A'),
-                        (SELECT tsquery FROM query_token)
-                    ) AS search_score,
-                    t.last_activity_at AS last_activity_at
+                    ts_headline('public.english_unaccent', coalesce(t.title, ''), (SELECT tsquery FROM query_token), 'MaxWords=25, StartSel=<b>, StopSel=</b>')::TEXT AS body_preview
                 FROM forum_threads t
-                INNER JOIN forum_categories c ON t.category_id = c.id
-                WHERE t.is_deleted = FALSE
-                    AND to_tsvector('public.english_unaccent', coalesce(t.title, '')) @@ (SELECT tsquery FROM query_token)
-                
-                    -- Category visibility filter (same as CATEGORIES block below
-                    AND c.is_active = TRUE
-                    AND (
-                         -- PUBLIC: always visible'
-                         (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'PUBLIC')
-                
-                         -- MEMBERS_ONLY: viewer must be logged in
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MEMBERS_ONLY' AND :viewerId IS NOT NULL)
-               
-                         -- VERIFIED_ONLY: viewer must be trusted, peer supporter or admin
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'VERIFIED_ONLY' AND :isVerified = TRUE)
-                
-                         -- MODERATORS_ONLY: viewer must be moderator or admin
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MODERATORS_ONLY' AND :isModeratorOrAdmin = TRUE)
-                
-                         -- ADMINS_ONLY: viewer must be moderator or admin
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'ADMINS_ONLY' AND :isAdmin = TRUE)
-                
-                        )
-              
+                WHERE t.id = ANY(:threadIds)
+
                 UNION ALL
-                
-                -- 2. POSTS (With Advanced contextual Snippet Surrounding Search Term)
+
+                -- Posts: contextual snippet surrounding the search term
                 SELECT
                     p.id AS entity_id,
                     'POST'::TEXT AS entity_type,
@@ -112,38 +343,13 @@ public class GlobalSearchRepository {
                         THEN 'Anonymous Reply'::VARCHAR
                         ELSE coalesce(u.display_name, 'forum_member'::VARCHAR)
                     END AS header,
-                    ts_headline('public.english_unaccent', coalesce(p.content, ''), (SELECT tsquery FROM query_token), 'MaxWords=25, MinWords=15, StartSel=<b>, StopSel=</b>')::TEXT AS body_preview,
-                    ts_rank(
-                        setweight(to_tsvector('public.english_unaccent', coalesce(p.content, '')), 'B'),
-                        (SELECT tsquery FROM query_token)
-                    ) AS search_score,
-                    p.created_at AS last_activity_at
+                    ts_headline('public.english_unaccent', coalesce(p.content, ''), (SELECT tsquery FROM query_token), 'MaxWords=25, MinWords=15, StartSel=<b>, StopSel=</b>')::TEXT AS body_preview
                 FROM forum_posts p
                 LEFT JOIN app_users u ON p.author_id = u.keycloak_id
-                INNER JOIN forum_threads t ON p.thread_id = t.id
-                INNER JOIN forum_categories c ON t.category_id = c.id
-                WHERE p.is_deleted = FALSE
-                    AND p.flagged_for_review = FALSE
-                    AND to_tsvector('public.english_unaccent', coalesce(p.content, '')) @@ (SELECT tsquery FROM query_token)
-              
-                    -- Thread must not be deleted
-                    AND t.is_deleted = FALSE
-               
-                    -- Category visibility (same as above)
-                    AND c.is_active = TRUE
-                    AND (
-                
-                         (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'PUBLIC')
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MEMBERS_ONLY' AND :viewerId IS NOT NULL)
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'VERIFIED_ONLY' AND :isVerified = TRUE)
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MODERATORS_ONLY' AND :isModeratorOrAdmin = TRUE)
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'ADMINS_ONLY' AND :isAdmin = TRUE)
-                
-                        )
-                
+                WHERE p.id = ANY(:postIds)
+
                 UNION ALL
-                
-                -- 3. CATEGORIES & CATEGORY TAGS (with privacy applied directly)
+
                 SELECT
                     c.id AS entity_id,
                     'CATEGORY'::TEXT AS entity_type,
@@ -156,147 +362,62 @@ public class GlobalSearchRepository {
                         END,
                         (SELECT tsquery FROM query_token),
                         'MaxWords=25, StartSel=<b>, StopSel=</b>'
-                    )::TEXT AS body_preview,
-                    ts_rank(
-                        setweight(to_tsvector('public.english_unaccent', coalesce(c.name, '')), 'A') ||
-                        setweight(to_tsvector('public.english_unaccent', coalesce(c.description, '')), 'B') ||
-                        setweight(to_tsvector('public.english_unaccent', coalesce(cat_tags.aggregated_tags, '')), 'A'),
-                        (SELECT tsquery FROM query_token)
-                    ) AS search_score,
-                    c.created_at AS last_activity_at
+                    )::TEXT AS body_preview
                 FROM forum_categories c
                 LEFT JOIN (
                     SELECT cta.category_id, string_agg(ct.name, ' ') AS aggregated_tags
-                    FROM  category_tag_assignments cta
+                    FROM category_tag_assignments cta
                     JOIN category_tags ct ON cta.tag_id = ct.id
+                    WHERE cta.category_id = ANY(:categoryIds)
                     GROUP BY cta.category_id
                 ) cat_tags ON c.id = cat_tags.category_id
-                WHERE c.is_active = TRUE
-                    AND (
-                        to_tsvector('public.english_unaccent', coalesce(c.name, '')) @@ (SELECT tsquery FROM query_token) OR
-                        to_tsvector('public.english_unaccent', coalesce(c.description, '')) @@ (SELECT tsquery FROM query_token) OR
-                        to_tsvector('public.english_unaccent', coalesce(cat_tags.aggregated_tags, '')) @@ (SELECT tsquery FROM query_token)
-                    )
-               
-                    -- Category visibility (same as above)
-                    AND (
-                
-                         (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'PUBLIC')
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MEMBERS_ONLY' AND :viewerId IS NOT NULL)
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'VERIFIED_ONLY' AND :isVerified = TRUE)
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MODERATORS_ONLY' AND :isModeratorOrAdmin = TRUE)
-                         OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'ADMINS_ONLY' AND :isAdmin = TRUE)
-                
-                        )
-               
+                WHERE c.id = ANY(:categoryIds)
+
                 UNION ALL
-                -- 4. USER PROFILES (Display Name + Bio)
+
                 SELECT
                     u.id AS entity_id,
                     'PROFILE'::TEXT AS entity_type,
                     u.display_name AS header,
-                    ts_headline('public.english_unaccent', coalesce(u.bio, ''), (SELECT tsquery FROM query_token), 'MaxWords=25, StartSel=<b>, StopSel=</b>')::TEXT AS body_preview,
-                    ts_rank(
-                        setweight(to_tsvector('public.simple_unaccent', coalesce(u.display_name, '')), 'A') ||
-                        setweight(to_tsvector('public.english_unaccent', coalesce(u.bio, '')), 'B'),
-                        (SELECT tsquery FROM query_token)
-                    ) AS search_score,
-                    u.last_active_at AS last_activity_at
+                    ts_headline('public.english_unaccent', coalesce(u.bio, ''), (SELECT tsquery FROM query_token), 'MaxWords=25, StartSel=<b>, StopSel=</b>')::TEXT AS body_preview
                 FROM app_users u
-                WHERE u.is_active = TRUE
-                    AND u.account_deletion_requested_at IS NULL
-                    AND (
-                          to_tsvector('public.simple_unaccent', coalesce(u.display_name, '')) @@ (SELECT tsquery_simple FROM query_token) OR
-                          to_tsvector('public.english_unaccent', coalesce(u.bio, '')) @@ (SELECT tsquery FROM query_token)
-                    )
-                
-                    -- Privacy filter
-                    AND (
-                        -- MEMBERS_ONLY: viewer must be logged in
-                        (u.profile_visibility = 'MEMBERS_ONLY' AND :viewerId IS NOT NULL)
-                
-                        -- PRIVATE: owner, admin, moderator, or mutual connection
-                        OR(u.profile_visibility = 'PRIVATE' AND (
-                            -- Owner
-                            u.keycloak_id = :viewerId
-                
-                            -- Admin or moderator
-                            OR :isAdmin = TRUE
-                            OR :isModeratorOrAdmin = TRUE
-               
-                            -- Mutual connection (ACCEPTED)
-                            OR EXISTS (
-                                SELECT 1 FROM user_connections uc
-                                WHERE (
-                                    (uc.user_1 = u.keycloak_id AND uc.user_2 = :viewerId) OR
-                                    (uc.user_1 = :viewerId AND uc.user_2 = u.keycloak_id)
-                                )
-                                AND uc.status = 'ACCEPTED'::connection_status_enum
-                            )
-              
-                        ))
-                
-                    )
-                """;
-
-        // Pagination: Fetch one extra row to check if there's a next page
-        int fetchSize = pageable.getPageSize() + 1;
-
-        // The outer query is now crystal clear
-        String dataSql = "WITH combined_search AS (" + coreSearchUnionSql + ")" +
-                "SELECT entity_id, entity_type, header, body_preview, search_score, last_activity_at " +
-                "FROM combined_search " +
-                "ORDER BY " + orderByClause + " LIMIT :limit OFFSET :offset";
-
-        // Log the search parameters
-        log.debug("Search query: '{}', sortBy: '{}', page: {}, size: {}, offset: {}",
-                rawQuery, sortBy, pageable.getPageNumber(), pageable.getPageSize(), pageable.getOffset());
+                WHERE u.id = ANY(:profileIds)
+                ) previews
 
-        // Log the full SQL being executed
-        log.debug("SQL: {}", dataSql);
+                -- Emit rows in rank order so callers can stream them as they arrive
+                ORDER BY array_position(:hitKeys, previews.entity_type || ':' || previews.entity_id::TEXT)
+                """;
 
-        // Secure R2DBC Null-safe Parameters Binding Execution
-        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql(dataSql)
+        return databaseClient.sql(previewSql)
                 .bind("query", rawQuery)
-                .bind("isAdmin", isAdmin)
-                .bind("isModeratorOrAdmin", isModeratorOrAdmin)
-                .bind("isVerified", isVerified)
-                .bind("limit", fetchSize)
-                .bind("offset", (int) pageable.getOffset());
-
-
-        // Defend against R2DBC primitive null column crashes via driver fallback assignment
-        if(viewerId != null){
-            executeSpec = executeSpec.bind("viewerId", viewerId);
-        }
-        else{
-            executeSpec = executeSpec.bindNull("viewerId", UUID.class);
-        }
-
-
-        return executeSpec
+                .bind("threadIds", idsOfType(hits, SearchEntityType.THREAD))
+                .bind("postIds", idsOfType(hits, SearchEntityType.POST))
+                .bind("categoryIds", idsOfType(hits, SearchEntityType.CATEGORY))
+                .bind("profileIds", idsOfType(hits, SearchEntityType.PROFILE))
+                .bind("hitKeys", hits.stream().map(this::hitKey).toArray(String[]::new))
                 .map((row, metadata) -> {
-                    LocalDateTime dateTime = row.get("last_activity_at", LocalDateTime.class);
-                    Instant instant = (dateTime != null)? dateTime.toInstant(ZoneOffset.UTC) : null;
-
+                    GlobalSearchHit hit = hitsByKey.get(
+                            row.get("entity_type", String.class) + ":" + row.get("entity_id", UUID.class));
                     return new GlobalSearchResult(
-                            row.get("entity_id", UUID.class),
-                            row.get("entity_type", String.class),
+                            hit.entityId(),
+                            hit.entityType().name(),
                             row.get("header", String.class),
                             row.get("body_preview", String.class),
-                            row.get("search_score", Double.class),
-                            instant
+                            hit.searchScore(),
+                            hit.lastActivityAt()
                     );
                 })
-                .all()
-                .collectList()
-                .map(results -> {
-                    boolean hasNext = results.size() > pageable.getPageSize();
-                    List<GlobalSearchResult> content = hasNext
-                            ? results.subList(0, pageable.getPageSize())
-                            : results;
-
-                    return new SliceImpl<>(content, pageable, hasNext);
-                });
+                .all();
+    }
+
+    private String hitKey(GlobalSearchHit hit) {
+        return hit.entityType().name() + ":" + hit.entityId();
+    }
+
+    private UUID[] idsOfType(List<GlobalSearchHit> hits, SearchEntityType entityType) {
+        return hits.stream()
+                .filter(hit -> hit.entityType() == entityType)
+                .map(GlobalSearchHit::entityId)
+                .toArray(UUID[]::new);
     }
 }
@@ -0,0 +1,45 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small SQL accumulator for the dynamic listing repositories.
+ * Predicates are only appended when their filter is set, and each bound value is
+ * registered alongside its SQL so no "(:param IS NULL OR ...)" guards are needed.
+ */
+final class ListingQuery {
+
+    private final StringBuilder sql = new StringBuilder();
+    private final Map<String, Object> bindings = new LinkedHashMap<>();
+
+    ListingQuery append(String fragment) {
+        sql.append(fragment);
+        return this;
+    }
+
+    ListingQuery append(String fragment, String name, Object value) {
+        sql.append(fragment);
+        bindings.put(name, value);
+        return this;
+    }
+
+    ListingQuery bind(String name, Object value) {
+        bindings.put(name, value);
+        return this;
+    }
+
+    String sql() {
+        return sql.toString();
+    }
+
+    DatabaseClient.GenericExecuteSpec executeWith(DatabaseClient databaseClient) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec;
+    }
+}
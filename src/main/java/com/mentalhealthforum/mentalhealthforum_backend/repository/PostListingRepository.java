@@ -0,0 +1,144 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.PostListingFilter;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.PostSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.model.PostEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Dynamic post listing queries.
+ *
+ * <p>Orders by {@code (<typed sort column> <dir>, id <dir>)} so a thread page is read straight off the
+ * {@code (thread_id, created_at, id)} / {@code (thread_id, updated_at, id)} indexes
+ * (see {@code db/listing_sort_indexes.sql}) rather than sorted in memory.
+ */
+@Repository
+public class PostListingRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PostListingRepository.class);
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+    private final CategoryVisibilityCache categoryVisibilityCache;
+
+    public PostListingRepository(
+            DatabaseClient databaseClient,
+            R2dbcConverter r2dbcConverter,
+            CategoryVisibilityCache categoryVisibilityCache) {
+        this.databaseClient = databaseClient;
+        this.r2dbcConverter = r2dbcConverter;
+        this.categoryVisibilityCache = categoryVisibilityCache;
+    }
+
+    public Flux<PostEntity> findPage(
+            PostListingFilter filter,
+            PostSortField sortField,
+            String sortDirection,
+            int limit,
+            int offset) {
+
+        String direction = "DESC".equals(sortDirection) ? "DESC" : "ASC";
+
+        return categoryVisibilityCache.visibleCategoryIds(filter.tier())
+                .flatMapMany(visibleIds -> {
+                    ListingQuery query = new ListingQuery()
+                            .append("SELECT p.* FROM forum_posts p ")
+                            .append("INNER JOIN forum_threads t ON p.thread_id = t.id WHERE ");
+                    appendFilterPredicates(query, filter, visibleIds);
+                    query.append(" ORDER BY ").append(sortField.getColumn()).append(" ").append(direction)
+                            .append(", p.id ").append(direction)
+                            .append(" LIMIT :limit", "limit", limit)
+                            .append(" OFFSET :offset", "offset", offset);
+
+                    log.debug("Post listing SQL: {}", query.sql());
+
+                    return query.executeWith(databaseClient)
+                            .map((row, metadata) -> r2dbcConverter.read(PostEntity.class, row, metadata))
+                            .all();
+                });
+    }
+
+    public Mono<Long> count(PostListingFilter filter) {
+        return categoryVisibilityCache.visibleCategoryIds(filter.tier())
+                .flatMap(visibleIds -> {
+                    ListingQuery query = new ListingQuery()
+                            .append("SELECT COUNT(*) AS total FROM forum_posts p ")
+                            .append("INNER JOIN forum_threads t ON p.thread_id = t.id WHERE ");
+                    appendFilterPredicates(query, filter, visibleIds);
+
+                    return query.executeWith(databaseClient)
+                            .map((row, metadata) -> row.get("total", Long.class))
+                            .one();
+                })
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * Planner row estimate for the filtered listing; no rows are read.
+     */
+    public Mono<Long> estimateCount(PostListingFilter filter) {
+        return categoryVisibilityCache.visibleCategoryIds(filter.tier())
+                .flatMap(visibleIds -> {
+                    ListingQuery query = new ListingQuery()
+                            .append("EXPLAIN (FORMAT JSON) ")
+                            .append("SELECT 1 FROM forum_posts p ")
+                            .append("INNER JOIN forum_threads t ON p.thread_id = t.id WHERE ");
+                    appendFilterPredicates(query, filter, visibleIds);
+
+                    return query.executeWith(databaseClient)
+                            .map((row, metadata) -> row.get(0, String.class))
+                            .one();
+                })
+                .map(plan -> JsonUtils.jsonStringToJsonNode(plan).path(0).path("Plan").path("Plan Rows").asLong(0L))
+                .defaultIfEmpty(0L);
+    }
+
+    // ==================== PREDICATES ====================
+
+    private void appendFilterPredicates(ListingQuery query, PostListingFilter filter, UUID[] visibleIds) {
+        // Category visibility: active categories the viewer's tier can see (see CategoryVisibilityCache)
+        query.append("t.category_id = ANY(:visibleIds)", "visibleIds", visibleIds);
+
+        if (filter.threadId() != null) {
+            query.append(" AND p.thread_id = :threadId", "threadId", filter.threadId());
+        }
+        if (filter.authorId() != null) {
+            query.append(" AND p.author_id = :authorId", "authorId", filter.authorId());
+        }
+        if (filter.parentPostId() != null) {
+            query.append(" AND p.parent_post_id = :parentPostId", "parentPostId", filter.parentPostId());
+        }
+        if (filter.postType() != null) {
+            query.append(" AND p.post_type = :postType::post_type_enum", "postType", filter.postType());
+        }
+        if (filter.flaggedForReview() != null) {
+            query.append(" AND p.flagged_for_review = :flaggedForReview", "flaggedForReview", filter.flaggedForReview());
+        }
+        if (filter.hasContentWarning() != null) {
+            query.append(filter.hasContentWarning()
+                    ? " AND p.content_warning_type != 'NONE'"
+                    : " AND p.content_warning_type = 'NONE'");
+        }
+        if (filter.isDeleted() != null) {
+            query.append(" AND p.is_deleted = :isDeleted", "isDeleted", filter.isDeleted());
+        }
+
+        // Search: Hybrid: FTS + Trigram
+        if (filter.search() != null) {
+            query.append("""
+                     AND (p.search_vector
+                            @@ websearch_to_tsquery('public.english_unaccent', :search)
+                         OR public.unaccent_immutable(p.content) % public.unaccent_immutable(:search))
+                    """, "search", filter.search());
+        }
+    }
+}
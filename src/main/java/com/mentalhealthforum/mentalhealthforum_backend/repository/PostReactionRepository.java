@@ -20,6 +20,12 @@ public interface PostReactionRepository extends R2dbcRepository<PostReactionEnti
 
     Mono<PostReactionEntity> findByPostIdAndUserId(UUID postId, UUID userId);
 
+    /**
+     * Batch fetch one user's reactions on a page of posts (at most one per post)
+     */
+    @Query("SELECT * FROM post_reactions WHERE user_id = :userId AND post_id = ANY(:postIds)")
+    Flux<PostReactionEntity> findByUserIdAndPostIds(@Param("userId") UUID userId, @Param("postIds") UUID[] postIds);
+
     @Query("""
     SELECT reaction_type, COUNT(*) as reaction_count
     FROM post_reactions
@@ -32,6 +38,46 @@ public interface PostReactionRepository extends R2dbcRepository<PostReactionEnti
 
     Mono<Void> deleteByPostIdAndUserId(UUID postId, UUID userId);
 
+    // ==================== BATCHED TOGGLES (ReactionIngestionBuffer) ====================
+    // userIds[i] wants reactionTypes[i] on the post; an empty string means "no reaction".
+    // Both statements return the types they actually changed, so counters follow real row changes.
+
+    /**
+     * Deletes each user's reaction unless it already is the wanted one; returns the deleted types.
+     */
+    @Query("""
+    DELETE FROM post_reactions r
+    USING unnest(:userIds, :reactionTypes) AS x(user_id, reaction_type)
+    WHERE r.post_id = :postId
+        AND r.user_id = x.user_id
+        AND r.reaction_type::TEXT <> x.reaction_type
+    RETURNING r.reaction_type::TEXT
+""")
+    Flux<String> deleteToggled(
+            @Param("postId") UUID postId,
+            @Param("userIds") UUID[] userIds,
+            @Param("reactionTypes") String[] reactionTypes);
+
+    /**
+     * Inserts the wanted reaction for users left without one; returns the inserted types.
+     * Rows committed concurrently by another instance are skipped rather than failing the batch.
+     */
+    @Query("""
+    INSERT INTO post_reactions (post_id, user_id, reaction_type, created_at)
+    SELECT :postId, x.user_id, x.reaction_type::reaction_enum, NOW()
+    FROM unnest(:userIds, :reactionTypes) AS x(user_id, reaction_type)
+    WHERE x.reaction_type <> ''
+        AND NOT EXISTS (
+            SELECT 1 FROM post_reactions r WHERE r.post_id = :postId AND r.user_id = x.user_id
+        )
+    ON CONFLICT (post_id, user_id) DO NOTHING
+    RETURNING reaction_type::TEXT
+""")
+    Flux<String> insertToggled(
+            @Param("postId") UUID postId,
+            @Param("userIds") UUID[] userIds,
+            @Param("reactionTypes") String[] reactionTypes);
+
     Mono<Void> deleteByPostIdAndUserIdAndReactionType(UUID postId, UUID userId, ReactionType reactionType);
 
 }
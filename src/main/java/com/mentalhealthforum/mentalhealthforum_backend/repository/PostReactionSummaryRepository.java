@@ -0,0 +1,49 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.model.PostReactionSummaryEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PostReactionSummaryRepository extends R2dbcRepository<PostReactionSummaryEntity, UUID> {
+
+    /**
+     * Adds per-type deltas ({@code {"HUGS": 2, "UPVOTE": -1}}) and {@code totalDelta} to the post's
+     * counters in one statement, creating the summary row on the first reaction. The row lock taken
+     * by the upsert serializes concurrent writers on the same post; counters never go below zero.
+     */
+    @Query("""
+        INSERT INTO post_reaction_summaries AS s (post_id, counts, total_count, updated_at)
+        VALUES (
+            :postId,
+            (SELECT coalesce(jsonb_object_agg(d.key, GREATEST(d.value::INTEGER, 0)), '{}'::JSONB)
+             FROM jsonb_each_text(CAST(:deltas AS JSONB)) d),
+            GREATEST(:totalDelta, 0),
+            NOW()
+        )
+        ON CONFLICT (post_id) DO UPDATE
+            SET counts = s.counts || (
+                    SELECT coalesce(jsonb_object_agg(
+                        d.key, GREATEST(coalesce((s.counts ->> d.key)::INTEGER, 0) + d.value::INTEGER, 0)), '{}'::JSONB)
+                    FROM jsonb_each_text(CAST(:deltas AS JSONB)) d),
+                total_count = GREATEST(s.total_count + :totalDelta, 0),
+                updated_at = NOW()
+    """)
+    Mono<Void> applyDeltas(
+            @Param("postId") UUID postId,
+            @Param("deltas") String deltas,
+            @Param("totalDelta") int totalDelta);
+
+    /**
+     * Batch fetch summaries for a page of posts; posts without reactions have no row
+     */
+    @Query("SELECT * FROM post_reaction_summaries WHERE post_id IN (:postIds)")
+    Flux<PostReactionSummaryEntity> findReactionSummaries(@Param("postIds") List<UUID> postIds);
+}
@@ -0,0 +1,125 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
+import com.mentalhealthforum.mentalhealthforum_backend.model.PostEntity;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Bounded reply trees over {@code forum_posts.parent_post_id}, loaded with one recursive query.
+ *
+ * <p>Each level keeps the first {@code maxChildren} live replies of every parent (oldest first), read
+ * off {@code idx_posts_parent_created} by a LATERAL LIMIT, and the walk stops at {@code maxDepth}.
+ * Every node carries a materialized path of zero-padded sibling positions, so ordering by it returns
+ * the tree depth-first. Replies under a deleted post are not reached.
+ */
+@Repository
+public class PostReplyTreeRepository {
+
+    private static final String REPLY_TREE_SQL = """
+            WITH RECURSIVE tree AS (
+                SELECT
+                    r.id,
+                    0 AS depth,
+                    lpad(r.position::TEXT, 4, '0') AS path
+                FROM (
+                    SELECT p.id, row_number() OVER (ORDER BY p.created_at, p.id) AS position
+                    FROM forum_posts p
+                    INNER JOIN forum_threads t ON p.thread_id = t.id
+                    WHERE p.thread_id = :threadId
+                        AND p.is_deleted = FALSE
+                        AND (CAST(:rootPostId AS UUID) IS NULL AND p.parent_post_id IS NULL
+                             OR p.id = CAST(:rootPostId AS UUID))
+
+                        -- Thread must be live and in a category the viewer's tier can see
+                        AND t.is_deleted = FALSE
+                        AND t.category_id = ANY(:visibleIds)
+                    ORDER BY p.created_at, p.id
+                    LIMIT :maxChildren
+                ) r
+
+                UNION ALL
+
+                SELECT
+                    c.id,
+                    tree.depth + 1,
+                    tree.path || '.' || lpad(c.position::TEXT, 4, '0')
+                FROM tree
+                CROSS JOIN LATERAL (
+                    SELECT p.id, row_number() OVER (ORDER BY p.created_at, p.id) AS position
+                    FROM forum_posts p
+                    WHERE p.parent_post_id = tree.id
+                        AND p.is_deleted = FALSE
+                    ORDER BY p.created_at, p.id
+                    LIMIT :maxChildren
+                ) c
+                WHERE tree.depth < :maxDepth
+            )
+            SELECT
+                p.*,
+                tree.depth AS tree_depth,
+                tree.path AS tree_path,
+                (SELECT COUNT(*) FROM forum_posts x
+                 WHERE x.parent_post_id = p.id AND x.is_deleted = FALSE) AS tree_reply_count
+            FROM tree
+            INNER JOIN forum_posts p ON p.id = tree.id
+            ORDER BY tree.path COLLATE "C"
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+    private final CategoryVisibilityCache categoryVisibilityCache;
+
+    public PostReplyTreeRepository(
+            DatabaseClient databaseClient,
+            R2dbcConverter r2dbcConverter,
+            CategoryVisibilityCache categoryVisibilityCache) {
+        this.databaseClient = databaseClient;
+        this.r2dbcConverter = r2dbcConverter;
+        this.categoryVisibilityCache = categoryVisibilityCache;
+    }
+
+    /**
+     * A post of the tree with its position; {@code replyCount} counts all live direct replies, not
+     * only the ones returned.
+     */
+    public record ReplyTreeRow(PostEntity post, int depth, String path, long replyCount) {}
+
+    /**
+     * Reply tree of a thread in depth-first order.
+     *
+     * @param rootPostId  subtree root, or null for every top-level post of the thread
+     * @param maxDepth    deepest level returned (roots are level 0)
+     * @param maxChildren cap on roots and on replies per post; must stay below 10000 (path width)
+     */
+    public Flux<ReplyTreeRow> findReplyTree(
+            UUID threadId,
+            UUID rootPostId,
+            int maxDepth,
+            int maxChildren,
+            ViewerTier tier) {
+
+        return categoryVisibilityCache.visibleCategoryIds(tier)
+                .flatMapMany(visibleIds -> {
+                    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(REPLY_TREE_SQL)
+                            .bind("threadId", threadId)
+                            .bind("visibleIds", visibleIds)
+                            .bind("maxDepth", maxDepth)
+                            .bind("maxChildren", maxChildren);
+                    spec = rootPostId != null
+                            ? spec.bind("rootPostId", rootPostId)
+                            : spec.bindNull("rootPostId", UUID.class);
+
+                    return spec.map((row, metadata) -> new ReplyTreeRow(
+                                    r2dbcConverter.read(PostEntity.class, row, metadata),
+                                    row.get("tree_depth", Integer.class),
+                                    row.get("tree_path", String.class),
+                                    row.get("tree_reply_count", Long.class)))
+                            .all();
+                });
+    }
+}
@@ -0,0 +1,97 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Per-lexeme post frequencies in {@code search_lexeme_stats} (db/search_lexeme_stats.sql), read by
+ * SearchQueryPlanner to estimate how many posts a query matches before running it.
+ */
+@Repository
+public class SearchLexemeStatsRepository {
+
+    // Lexemes in fewer posts than this are not stored; the planner treats them as selective anyway
+    private static final String REFRESH_SQL = """
+            INSERT INTO search_lexeme_stats (lexeme, post_ndoc, refreshed_at)
+            SELECT s.word, s.ndoc, :refreshedAt
+            FROM ts_stat('SELECT search_vector FROM forum_posts WHERE is_deleted = FALSE') s
+            WHERE s.ndoc >= GREATEST(
+                (SELECT reltuples FROM pg_class WHERE oid = 'forum_posts'::regclass) * 0.001, 1
+            )
+            ON CONFLICT (lexeme) DO UPDATE
+                SET post_ndoc = EXCLUDED.post_ndoc,
+                    refreshed_at = EXCLUDED.refreshed_at
+            """;
+
+    private static final String PRUNE_SQL = """
+            DELETE FROM search_lexeme_stats WHERE refreshed_at < :refreshedAt
+            """;
+
+    // Each query term goes through the same configuration as forum_posts.search_vector on its own,
+    // so every lexeme row can be traced back to the term it came from
+    private static final String ESTIMATE_SQL = """
+            SELECT
+                q.term AS term,
+                t.lexeme AS lexeme,
+                coalesce(s.post_ndoc, 0) AS post_ndoc,
+                (SELECT GREATEST(reltuples, 1)::BIGINT FROM pg_class WHERE oid = 'forum_posts'::regclass) AS post_total
+            FROM unnest(:terms::text[]) AS q(term)
+            CROSS JOIN LATERAL unnest(tsvector_to_array(to_tsvector('public.english_unaccent', q.term))) AS t(lexeme)
+            LEFT JOIN search_lexeme_stats s ON s.lexeme = t.lexeme
+            """;
+
+    /**
+     * Share of posts containing a lexeme. {@code postTotal} is the planner's row estimate of
+     * forum_posts, which is all the accuracy a selectivity guess needs.
+     */
+    public record LexemeFrequency(String term, String lexeme, long postNdoc, long postTotal) {
+
+        public double fraction() {
+            return Math.min(1.0, (double) postNdoc / Math.max(postTotal, 1));
+        }
+    }
+
+    private final DatabaseClient databaseClient;
+
+    public SearchLexemeStatsRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Frequencies of the lexemes each of {@code terms} normalizes to, in one round trip; a term that
+     * stems to several lexemes or to none yields as many rows.
+     */
+    public Flux<LexemeFrequency> findFrequencies(Collection<String> terms) {
+        return databaseClient.sql(ESTIMATE_SQL)
+                .bind("terms", terms.toArray(String[]::new))
+                .map((row, metadata) -> new LexemeFrequency(
+                        row.get("term", String.class),
+                        row.get("lexeme", String.class),
+                        row.get("post_ndoc", Number.class).longValue(),
+                        row.get("post_total", Number.class).longValue()))
+                .all();
+    }
+
+    /**
+     * Recomputes every frequency from ts_stat and drops lexemes that fell below the floor.
+     *
+     * @return number of lexemes stored
+     */
+    public Mono<Long> refresh() {
+        Instant refreshedAt = Instant.now();
+        return databaseClient.sql(REFRESH_SQL)
+                .bind("refreshedAt", refreshedAt)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(stored -> databaseClient.sql(PRUNE_SQL)
+                        .bind("refreshedAt", refreshedAt)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(stored));
+    }
+}
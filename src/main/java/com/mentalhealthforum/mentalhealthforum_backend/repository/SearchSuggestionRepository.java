@@ -0,0 +1,80 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.SuggestionSource;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SuggestionType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads the labels behind search-as-you-type suggestions, one query per {@link SuggestionType}.
+ */
+@Repository
+public class SearchSuggestionRepository {
+
+    private static final String THREAD_SOURCES_SQL = """
+            SELECT t.id AS entity_id, t.title AS label, ARRAY[t.category_id] AS category_ids
+            FROM forum_threads t
+            WHERE t.is_deleted = FALSE
+            """;
+
+    private static final String CATEGORY_SOURCES_SQL = """
+            SELECT c.id AS entity_id, c.name AS label, ARRAY[c.id] AS category_ids
+            FROM forum_categories c
+            WHERE c.is_active = TRUE
+            """;
+
+    // A tag is only suggested to viewers who can see at least one category it is assigned to
+    private static final String TAG_SOURCES_SQL = """
+            SELECT ct.id AS entity_id, ct.name AS label, array_agg(cta.category_id) AS category_ids
+            FROM category_tags ct
+            JOIN category_tag_assignments cta ON cta.tag_id = ct.id
+            GROUP BY ct.id, ct.name
+            """;
+
+    // Private profiles are never suggested; members-only profiles are filtered per viewer in Java
+    private static final String PROFILE_SOURCES_SQL = """
+            SELECT u.id AS entity_id, u.display_name AS label, ARRAY[]::UUID[] AS category_ids
+            FROM app_users u
+            WHERE u.is_active = TRUE
+                AND u.account_deletion_requested_at IS NULL
+                AND u.profile_visibility = 'MEMBERS_ONLY'
+                AND u.display_name IS NOT NULL
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public SearchSuggestionRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<SuggestionSource> findAll() {
+        return Flux.fromArray(SuggestionType.values())
+                .concatMap(this::findByType);
+    }
+
+    public Flux<SuggestionSource> findByType(SuggestionType type) {
+        String sql = switch (type) {
+            case THREAD -> THREAD_SOURCES_SQL;
+            case CATEGORY -> CATEGORY_SOURCES_SQL;
+            case TAG -> TAG_SOURCES_SQL;
+            case PROFILE -> PROFILE_SOURCES_SQL;
+        };
+
+        return databaseClient.sql(sql)
+                .map((row, metadata) -> {
+                    UUID[] categoryIds = row.get("category_ids", UUID[].class);
+                    return new SuggestionSource(
+                            type,
+                            row.get("entity_id", UUID.class),
+                            row.get("label", String.class),
+                            categoryIds != null ? Arrays.asList(categoryIds) : List.of()
+                    );
+                })
+                .all();
+    }
+}
@@ -0,0 +1,295 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.ListingCursor;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata.ThreadListingFilter;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.ThreadSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.ThreadTitleSearchIndex.TitleMatches;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Dynamic thread listing queries.
+ *
+ * <p>Every listing orders by {@code (is_sticky DESC, <typed sort column> <dir>, id <dir>)}. Where a composite
+ * index matches that order (see {@link ThreadSortField} and {@code db/listing_sort_indexes.sql}) the planner
+ * can walk the index and stop at LIMIT instead of sorting every matching thread.
+ * Offset mode skips rows; keyset mode resumes after the cursor row with a seek predicate.
+ * A title search is resolved to an id set first by {@link ThreadTitleSearchIndex}.
+ */
+@Repository
+public class ThreadListingRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadListingRepository.class);
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+    private final CategoryVisibilityCache categoryVisibilityCache;
+    private final ThreadTitleSearchIndex threadTitleSearchIndex;
+
+    public ThreadListingRepository(
+            DatabaseClient databaseClient,
+            R2dbcConverter r2dbcConverter,
+            CategoryVisibilityCache categoryVisibilityCache,
+            ThreadTitleSearchIndex threadTitleSearchIndex) {
+        this.databaseClient = databaseClient;
+        this.r2dbcConverter = r2dbcConverter;
+        this.categoryVisibilityCache = categoryVisibilityCache;
+        this.threadTitleSearchIndex = threadTitleSearchIndex;
+    }
+
+    /**
+     * What the filter predicates need resolved before the query is built.
+     */
+    private record ListingScope(UUID[] visibleIds, TitleMatches titleMatches) {}
+
+    private Mono<ListingScope> resolveScope(ThreadListingFilter filter) {
+        Mono<TitleMatches> titleMatches = filter.search() != null
+                ? threadTitleSearchIndex.findMatches(filter.search())
+                : Mono.just(new TitleMatches(new UUID[0], true));
+        return Mono.zip(categoryVisibilityCache.visibleCategoryIds(filter.tier()), titleMatches, ListingScope::new);
+    }
+
+    public Flux<ThreadEntity> findPage(
+            ThreadListingFilter filter,
+            ThreadSortField sortField,
+            String sortDirection,
+            int limit,
+            int offset) {
+
+        return resolveScope(filter)
+                .flatMapMany(scope -> {
+                    ListingQuery query = selectFrom(filter, scope, sortField);
+                    appendOrderBy(query, sortField, sortDirection);
+                    query.append(" LIMIT :limit", "limit", limit)
+                            .append(" OFFSET :offset", "offset", offset);
+
+                    return fetch(query);
+                });
+    }
+
+    /**
+     * Fetches up to {@code limit} threads positioned after {@code cursor} (or from the start when null).
+     */
+    public Flux<ThreadEntity> findPageAfterCursor(
+            ThreadListingFilter filter,
+            ThreadSortField sortField,
+            String sortDirection,
+            ListingCursor cursor,
+            int limit) {
+
+        return resolveScope(filter)
+                .flatMapMany(scope -> {
+                    ListingQuery query = selectFrom(filter, scope, sortField);
+
+                    if (cursor != null) {
+                        appendSeekPredicate(query, sortField, sortDirection, cursor);
+                    }
+
+                    appendOrderBy(query, sortField, sortDirection);
+                    query.append(" LIMIT :limit", "limit", limit);
+
+                    return fetch(query);
+                });
+    }
+
+    public Mono<Long> count(ThreadListingFilter filter) {
+        return resolveScope(filter)
+                .flatMap(scope -> {
+                    ListingQuery query = new ListingQuery()
+                            .append("SELECT COUNT(*) AS total FROM forum_threads t WHERE ");
+                    appendFilterPredicates(query, filter, scope);
+
+                    return query.executeWith(databaseClient)
+                            .map((row, metadata) -> row.get("total", Long.class))
+                            .one();
+                })
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * Planner row estimate for the filtered listing; no rows are read.
+     */
+    public Mono<Long> estimateCount(ThreadListingFilter filter) {
+        return resolveScope(filter)
+                .flatMap(scope -> {
+                    ListingQuery query = new ListingQuery()
+                            .append("EXPLAIN (FORMAT JSON) ")
+                            .append("SELECT 1 FROM forum_threads t WHERE ");
+                    appendFilterPredicates(query, filter, scope);
+
+                    return query.executeWith(databaseClient)
+                            .map((row, metadata) -> row.get(0, String.class))
+                            .one();
+                })
+                .map(plan -> JsonUtils.jsonStringToJsonNode(plan).path(0).path("Plan").path("Plan Rows").asLong(0L))
+                .defaultIfEmpty(0L);
+    }
+
+    // ==================== QUERY BUILDING ====================
+
+    private ListingQuery selectFrom(ThreadListingFilter filter, ListingScope scope, ThreadSortField sortField) {
+        if (sortField == ThreadSortField.RELEVANCE && filter.search() != null) {
+            return selectRankedFrom(filter, scope);
+        }
+        ListingQuery query = new ListingQuery()
+                .append("SELECT t.* FROM forum_threads t WHERE ");
+        appendFilterPredicates(query, filter, scope);
+        return query;
+    }
+
+    /**
+     * Same rows as {@link #selectFrom}, each with a {@code search_score}: stored-vector
+     * {@code ts_rank_cd} plus title trigram similarity. The score is computed once per matching row
+     * in the inner query; the outer query (aliased {@code t} again) seeks, orders and returns it.
+     * Only the title-matched id set is scored, so no index is needed for the sort.
+     */
+    private ListingQuery selectRankedFrom(ThreadListingFilter filter, ListingScope scope) {
+        ListingQuery query = new ListingQuery()
+                .append("""
+                        SELECT * FROM (
+                            SELECT t.*,
+                                (ts_rank_cd(t.search_vector, q.tsquery)
+                                    + similarity(public.unaccent_immutable(t.title), public.unaccent_immutable(:search))
+                                )::DOUBLE PRECISION AS search_score
+                            FROM forum_threads t
+                            CROSS JOIN (SELECT websearch_to_tsquery('public.english_unaccent', :search) AS tsquery) q
+                            WHERE\s""", "search", filter.search());
+        appendFilterPredicates(query, filter, scope);
+        return query.append(") t WHERE TRUE");
+    }
+
+    /**
+     * Positions the query after the cursor row under {@code is_sticky DESC, <column> <dir>, id <dir>}.
+     *
+     * <p>DESC plans seek with a single row-value comparison on {@code (is_sticky, column, id)}, which
+     * matches their index column for column, so Postgres starts the range scan at the cursor.
+     * ASC plans mix directions (sticky stays DESC) and need the OR form, which is not an index range.
+     * Postgres sorts NULL sort keys first under DESC and last under ASC; a cursor row with a NULL key
+     * carries a null {@link ListingCursor#sortKey()} and seeks within that NULL group by id.
+     */
+    private void appendSeekPredicate(
+            ListingQuery query, ThreadSortField sortField, String sortDirection, ListingCursor cursor) {
+        String column = sortField.getColumn();
+        boolean descending = "DESC".equals(sortDirection);
+        Object cursorKey = cursor.typedSortKey(sortField.getKeyType());
+
+        query.bind("cursorSticky", Boolean.TRUE.equals(cursor.sticky()))
+                .bind("cursorId", cursor.id());
+
+        if (cursorKey == null) {
+            // Cursor row is in the NULL group: first within its sticky group for DESC, last for ASC
+            query.append(" AND (t.is_sticky < :cursorSticky OR (t.is_sticky = :cursorSticky AND ")
+                    .append(descending
+                            ? "(" + column + " IS NOT NULL OR t.id < :cursorId)))"
+                            : column + " IS NULL AND t.id > :cursorId))");
+            return;
+        }
+
+        query.bind("cursorKey", cursorKey);
+        if (descending) {
+            // NULL keys sort before the cursor row and drop out of the comparison, as they should
+            query.append(" AND (t.is_sticky, ").append(column)
+                    .append(", t.id) < (:cursorSticky, :cursorKey, :cursorId)");
+        } else {
+            query.append(" AND (t.is_sticky < :cursorSticky OR (t.is_sticky = :cursorSticky AND ((")
+                    .append(column).append(", t.id) > (:cursorKey, :cursorId) OR ")
+                    .append(column).append(" IS NULL)))");
+        }
+    }
+
+    private void appendOrderBy(ListingQuery query, ThreadSortField sortField, String sortDirection) {
+        String direction = "DESC".equals(sortDirection) ? "DESC" : "ASC";
+        query.append(" ORDER BY t.is_sticky DESC, ")
+                .append(sortField.getColumn()).append(" ").append(direction)
+                .append(", t.id ").append(direction);
+    }
+
+    private Flux<ThreadEntity> fetch(ListingQuery query) {
+        log.debug("Thread listing SQL: {}", query.sql());
+        return query.executeWith(databaseClient)
+                .map((row, metadata) -> {
+                    ThreadEntity thread = r2dbcConverter.read(ThreadEntity.class, row, metadata);
+                    if (metadata.contains("search_score")) {
+                        thread.setSearchScore(row.get("search_score", Double.class));
+                    }
+                    return thread;
+                })
+                .all();
+    }
+
+    /**
+     * Appends only the predicates that are actually set.
+     */
+    private void appendFilterPredicates(ListingQuery query, ThreadListingFilter filter, ListingScope scope) {
+        // Category visibility: active categories the viewer's tier can see (see CategoryVisibilityCache)
+        query.append("t.category_id = ANY(:visibleIds)", "visibleIds", scope.visibleIds());
+
+        if (filter.categoryId() != null) {
+            query.append(" AND t.category_id = :categoryId", "categoryId", filter.categoryId());
+        }
+        if (filter.creatorId() != null) {
+            query.append(" AND t.creator_id = :creatorId", "creatorId", filter.creatorId());
+        }
+        if (filter.threadType() != null) {
+            query.append(" AND t.thread_type = :threadType::thread_type_enum", "threadType", filter.threadType());
+        }
+        if (filter.threadStatus() != null) {
+            query.append(" AND t.thread_status = :threadStatus::thread_status_enum", "threadStatus", filter.threadStatus());
+        }
+        if (filter.isDeleted() != null) {
+            query.append(" AND t.is_deleted = :isDeleted", "isDeleted", filter.isDeleted());
+        }
+        if (filter.isFeatured() != null) {
+            query.append(" AND t.is_featured = :isFeatured", "isFeatured", filter.isFeatured());
+        }
+        if (filter.hasContentWarning() != null) {
+            query.append(filter.hasContentWarning()
+                    ? " AND t.content_warning_type != 'NONE'"
+                    : " AND t.content_warning_type = 'NONE'");
+        }
+
+        // Search: Hybrid: FTS + Trigram, unioned by id in ThreadTitleSearchIndex
+        if (filter.search() != null) {
+            if (scope.titleMatches().complete()) {
+                query.append(" AND t.id = ANY(:titleMatchIds)", "titleMatchIds", scope.titleMatches().ids());
+            } else {
+                query.append(" AND t.id IN (" + ThreadTitleSearchIndex.TITLE_MATCH_UNION_SQL + ")", "search", filter.search());
+            }
+        }
+
+        // Bookmark / watch filters only make sense for a known viewer
+        if (filter.isBookmarked() != null) {
+            appendViewerExists(query, filter, filter.isBookmarked(), "thread_bookmarks");
+        }
+        if (filter.isWatched() != null) {
+            appendViewerExists(query, filter, filter.isWatched(), "watch_threads");
+        }
+
+        if (filter.categoryTagId() != null) {
+            query.append("""
+                     AND t.category_id IN (
+                        SELECT a.category_id FROM category_tag_assignments a WHERE a.tag_id = :categoryTagId)
+                    """, "categoryTagId", filter.categoryTagId());
+        }
+    }
+
+    private void appendViewerExists(ListingQuery query, ThreadListingFilter filter, boolean present, String table) {
+        if (filter.viewerId() == null) {
+            // Anonymous viewers have no bookmarks or watches
+            query.append(present ? " AND FALSE" : "");
+            return;
+        }
+        query.append(present ? " AND EXISTS (" : " AND NOT EXISTS (")
+                .append("SELECT 1 FROM " + table + " x WHERE x.thread_id = t.id AND x.user_id = :viewerId)",
+                        "viewerId", filter.viewerId());
+    }
+}
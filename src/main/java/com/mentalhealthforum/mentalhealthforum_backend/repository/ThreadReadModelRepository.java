@@ -0,0 +1,149 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.CategoryTagWithCategoryId;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata.ThreadReadModel;
+import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads threads with their response enrichment (category, creator, viewer bookmark/watch flags,
+ * bookmark count and category tags) in a single query, for both single-thread and listing responses.
+ */
+@Repository
+public class ThreadReadModelRepository {
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+
+    public ThreadReadModelRepository(DatabaseClient databaseClient, R2dbcConverter r2dbcConverter) {
+        this.databaseClient = databaseClient;
+        this.r2dbcConverter = r2dbcConverter;
+    }
+
+    /**
+     * Rows come back in no particular order; callers key them by thread id.
+     *
+     * @param viewerId the viewer's user id, or null for anonymous viewers (no bookmarks or watches)
+     */
+    public Flux<ThreadReadModel> findByThreadIds(Collection<UUID> threadIds, UUID viewerId) {
+        if (threadIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        ListingQuery query = new ListingQuery()
+                .append("""
+                        SELECT t.*,
+                               c.name AS category_name,
+                               c.slug AS category_slug,
+                               u.keycloak_id AS creator_keycloak_id,
+                               u.display_name AS creator_display_name,
+                               u.first_name AS creator_first_name,
+                               u.last_name AS creator_last_name,
+                               u.username AS creator_username,
+                               u.avatar_url AS creator_avatar_url,
+                        """);
+
+        if (viewerId != null) {
+            query.append("""
+                               EXISTS (SELECT 1 FROM thread_bookmarks b
+                                       WHERE b.thread_id = t.id AND b.user_id = :viewerId) AS is_bookmarked,
+                               EXISTS (SELECT 1 FROM watch_threads w
+                                       WHERE w.thread_id = t.id AND w.user_id = :viewerId) AS is_watched,
+                        """, "viewerId", viewerId);
+        } else {
+            query.append("""
+                               FALSE AS is_bookmarked,
+                               FALSE AS is_watched,
+                        """);
+        }
+
+        query.append("""
+                               (SELECT COUNT(*) FROM thread_bookmarks bc WHERE bc.thread_id = t.id) AS bookmark_count,
+                               tags.category_tags
+                        FROM forum_threads t
+                        LEFT JOIN forum_categories c ON c.id = t.category_id
+                        LEFT JOIN app_users u ON u.keycloak_id = t.creator_id
+                        LEFT JOIN LATERAL (
+                            SELECT jsonb_agg(jsonb_build_object(
+                                       'id', ct.id,
+                                       'name', ct.name,
+                                       'slug', ct.slug,
+                                       'description', ct.description)
+                                   ORDER BY ct.name)::text AS category_tags
+                            FROM category_tags ct
+                            JOIN category_tag_assignments a ON a.tag_id = ct.id
+                            WHERE a.category_id = t.category_id
+                        ) tags ON TRUE
+                        WHERE t.id = ANY(:threadIds)
+                        """, "threadIds", threadIds.toArray(UUID[]::new));
+
+        return query.executeWith(databaseClient)
+                .map(this::mapRow)
+                .all();
+    }
+
+    private ThreadReadModel mapRow(Row row, RowMetadata metadata) {
+        ThreadEntity thread = r2dbcConverter.read(ThreadEntity.class, row, metadata);
+
+        String categoryName = row.get("category_name", String.class);
+        CategoryEntity category = categoryName == null ? null : CategoryEntity.builder()
+                .id(thread.getCategoryId())
+                .name(categoryName)
+                .slug(row.get("category_slug", String.class))
+                .build();
+
+        AppUserEntity creator = new AppUserEntity();
+        creator.setKeycloakId(row.get("creator_keycloak_id", UUID.class));
+        creator.setDisplayName(row.get("creator_display_name", String.class));
+        creator.setFirstName(row.get("creator_first_name", String.class));
+        creator.setLastName(row.get("creator_last_name", String.class));
+        creator.setUsername(row.get("creator_username", String.class));
+        creator.setAvatarUrl(row.get("creator_avatar_url", String.class));
+
+        Long bookmarkCount = row.get("bookmark_count", Long.class);
+
+        return new ThreadReadModel(
+                thread,
+                category,
+                creator.getKeycloakId() != null ? creator : null,
+                Boolean.TRUE.equals(row.get("is_bookmarked", Boolean.class)),
+                bookmarkCount != null ? bookmarkCount : 0L,
+                Boolean.TRUE.equals(row.get("is_watched", Boolean.class)),
+                parseTags(thread.getCategoryId(), row.get("category_tags", String.class))
+        );
+    }
+
+    private List<CategoryTagWithCategoryId> parseTags(UUID categoryId, String json) {
+        if (json == null) {
+            return List.of();
+        }
+        List<CategoryTagWithCategoryId> tags = new ArrayList<>();
+        for (JsonNode tag : JsonUtils.jsonStringToJsonNode(json)) {
+            tags.add(new CategoryTagWithCategoryId(
+                    categoryId,
+                    UUID.fromString(tag.path("id").asText()),
+                    tag.path("name").asText(null),
+                    tag.path("slug").asText(null),
+                    tag.path("description").asText(null),
+                    null,
+                    null,
+                    null
+            ));
+        }
+        return tags;
+    }
+}
@@ -21,203 +21,6 @@ public interface ThreadRepository extends R2dbcRepository<ThreadEntity, UUID> {
 
     Mono<ThreadEntity> findByIdAndIsDeletedFalse(UUID threadId);
 
-    // ==================== REFERENCE TABLES ====================
-    @Query("""
-        SELECT t.* FROM forum_threads t
-        INNER JOIN forum_categories c ON t.category_id = c.id
-        WHERE (:categoryId IS NULL OR category_id = :categoryId::uuid)
-            AND (:creatorId IS NULL OR creator_id = :creatorId::uuid)
-            AND (:threadType IS NULL OR thread_type = :threadType::thread_type_enum)
-            AND (:threadStatus IS NULL OR thread_status = :threadStatus::thread_status_enum)
-            AND (:isDeleted IS NULL OR is_deleted = :isDeleted)
-            AND (:isFeatured IS NULL OR is_featured = :isFeatured)
-            AND (:hasContentWarning IS NULL OR
-                    (CASE WHEN :hasContentWarning = true
-                     THEN t.content_warning_type != 'NONE'
-                     ELSE t.content_warning_type = 'NONE' END))
-        
-            --Search: Hybrid: FTS + Trigram
-            AND (:search IS NULL
-                    OR to_tsvector('public.english_unaccent', coalesce(t.title, ''))
-                        @@ websearch_to_tsquery('public.english_unaccent', :search)
-                    OR public.unaccent_immutable(t.title) % public.unaccent_immutable(:search)
-            )
-        
-            -- Category visibility
-            AND c.is_active = TRUE
-            AND (
-        
-                 (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'PUBLIC')
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MEMBERS_ONLY' AND :viewerId IS NOT NULL)
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'VERIFIED_ONLY' AND :isVerified = TRUE)
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MODERATORS_ONLY' AND :isModeratorOrAdmin = TRUE)
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'ADMINS_ONLY' AND :isAdmin = TRUE)
-        
-            )
-        
-            -- Bookmark filter using EXISTS
-            AND (:isBookmarked IS NULL OR
-                (:isBookmarked = true AND EXISTS (
-                    SELECT 1 FROM thread_bookmarks b
-                    WHERE b.thread_id = t.id AND b.user_id = :viewerId
-                    )) OR
-                (:isBookmarked = false AND NOT EXISTS (
-                    SELECT 1 FROM thread_bookmarks b
-                    WHERE b.thread_id = t.id AND b.user_id = :viewerId
-                    ))
-                )
-        
-            -- Watch filter using EXISTS
-            AND (:isWatched IS NULL OR
-                (:isWatched = true AND EXISTS (
-                    SELECT 1 FROM watch_threads w
-                    WHERE w.thread_id = t.id AND w.user_id = :viewerId
-                    )) OR
-                (:isWatched = false AND NOT EXISTS (
-                    SELECT 1 FROM watch_threads w
-                    WHERE w.thread_id = t.id AND w.user_id = :viewerId
-                    ))
-                )
-        
-            -- Category Tag filter
-            AND (:categoryTagId IS NULL OR t.category_id IN (
-                SELECT a.category_id
-                FROM category_tag_assignments a
-                WHERE a.tag_id = :categoryTagId
-            ))
-        
-        ORDER BY
-            is_sticky DESC,
-            CASE :sortDirection
-                WHEN 'DESC' THEN
-                    CASE :sortBy
-                        WHEN 'created_at' THEN t.created_at::text
-                        WHEN 'last_activity_at' THEN t.last_activity_at::text
-                        WHEN 'post_count' THEN LPAD(post_count::text, 10, '0')
-                        WHEN 'view_count' THEN LPAD(view_count::text, 10, '0')
-                        WHEN 'title' THEN title
-                        ELSE last_activity_at::text
-                    END
-                ELSE NULL
-            END DESC NULLS LAST,
-            CASE :sortDirection
-                WHEN 'ASC' THEN
-                    CASE :sortBy
-                        WHEN 'created_at' THEN t.created_at::text
-                        WHEN 'last_activity_at' THEN t.last_activity_at::text
-                        WHEN 'post_count' THEN LPAD(post_count::text, 10, '0')
-                        WHEN 'view_count' THEN LPAD(view_count::text, 10, '0')
-                        WHEN 'title' THEN title
-                        ELSE last_activity_at::text
-                    END
-                ELSE NULL
-            END ASC NULLS FIRST,
-            id
-        LIMIT :limit OFFSET :offset
-        """)
-    Flux<ThreadEntity> findAllPaginated(
-            @Param("viewerId") UUID viewerId,
-            @Param("isAdmin") boolean isAdmin,
-            @Param("isModeratorOrAdmin") boolean isModeratorOrAdmin,
-            @Param("isVerified") boolean isVerified,
-            @Param("categoryId") UUID categoryId,
-            @Param("creatorId") UUID creatorId,
-            @Param("threadType") String threadType,
-            @Param("threadStatus") String threadStatus,
-            @Param("isDeleted") Boolean isDeleted,
-            @Param("isFeatured") Boolean isFeatured,
-            @Param("hasContentWarning") Boolean hasContentWarning,
-            @Param("isBookmarked") Boolean isBookmarked,
-            @Param("isWatched") Boolean isWatched,
-            @Param("categoryTagId") UUID categoryTagId,
-            @Param("search") String search,
-            @Param("sortBy") String sortBy,
-            @Param("sortDirection") String sortDirection,
-            @Param("limit") int limit,
-            @Param("offset") int offset
-    );
-
-    @Query("""
-        SELECT COUNT(*) FROM forum_threads t
-        INNER JOIN forum_categories c ON t.category_id = c.id
-        WHERE (:categoryId IS NULL OR category_id = :categoryId::uuid)
-            AND (:creatorId IS NULL OR creator_id = :creatorId::uuid)
-            AND (:threadType IS NULL OR thread_type = :threadType::thread_type_enum)
-            AND (:threadStatus IS NULL OR thread_status = :threadStatus::thread_status_enum)
-            AND (:isDeleted IS NULL OR is_deleted = :isDeleted)
-            AND (:isFeatured IS NULL OR is_featured = :isFeatured)
-            AND (:hasContentWarning IS NULL OR
-                    (CASE WHEN :hasContentWarning = true
-                     THEN t.content_warning_type != 'NONE'
-                     ELSE t.content_warning_type = 'NONE' END))
-        
-            AND (:search IS NULL
-                OR to_tsvector('public.english_unaccent', coalesce(t.title, ''))
-                    @@ websearch_to_tsquery('public.english_unaccent', :search)
-                OR public.unaccent_immutable(t.title) % public.unaccent_immutable(:search)
-            )
-        
-            -- Category visibility
-            AND c.is_active = TRUE
-            AND (
-        
-                 (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'PUBLIC')
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MEMBERS_ONLY' AND :viewerId IS NOT NULL)
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'VERIFIED_ONLY' AND :isVerified = TRUE)
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'MODERATORS_ONLY' AND :isModeratorOrAdmin = TRUE)
-                 OR (COALESCE(c.participation_requirements ->> 'viewAccess', 'MEMBERS_ONLY') = 'ADMINS_ONLY' AND :isAdmin = TRUE)
-        
-            )
-        
-            -- Bookmark filter using EXISTS
-            AND (:isBookmarked IS NULL OR
-                (:isBookmarked = true AND EXISTS (
-                    SELECT 1 FROM thread_bookmarks b
-                    WHERE b.thread_id = t.id AND b.user_id = :viewerId
-                    )) OR
-                (:isBookmarked = false AND NOT EXISTS (
-                    SELECT 1 FROM thread_bookmarks b
-                    WHERE b.thread_id = t.id AND b.user_id = :viewerId
-                    ))
-                )
-        
-            -- Watch filter using EXISTS
-            AND (:isWatched IS NULL OR
-                (:isWatched = true AND EXISTS (
-                    SELECT 1 FROM watch_threads w
-                    WHERE w.thread_id = t.id AND w.user_id = :viewerId
-                    )) OR
-                (:isWatched = false AND NOT EXISTS (
-                    SELECT 1 FROM watch_threads w
-                    WHERE w.thread_id = t.id AND w.user_id = :viewerId
-                    ))
-                )
-        
-            -- Category Tag filter
-            AND (:categoryTagId IS NULL OR t.category_id IN (
-                SELECT a.category_id
-                FROM category_tag_assignments a
-                WHERE a.tag_id = :categoryTagId
-            ))
-        """)
-    Mono<Long> countAllPaginated(
-            @Param("viewerId") UUID viewerId,
-            @Param("isAdmin") boolean isAdmin,
-            @Param("isModeratorOrAdmin") boolean isModeratorOrAdmin,
-            @Param("isVerified") boolean isVerified,
-            @Param("categoryId") UUID categoryId,
-            @Param("creatorId") UUID creatorId,
-            @Param("threadType") String threadType,
-            @Param("threadStatus") String threadStatus,
-            @Param("isDeleted") Boolean isDeleted,
-            @Param("isFeatured") Boolean isFeatured,
-            @Param("hasContentWarning") Boolean hasContentWarning,
-            @Param("isBookmarked") Boolean isBookmarked,
-            @Param("isWatched") Boolean isWatched,
-            @Param("categoryTagId") UUID categoryTagId,
-            @Param("search") String search
-    );
-
     // ==================== CATEGORY-SPECIFIC PAGINATED QUERIES ====================
     @Query("""
         SELECT * FROM forum_threads
@@ -244,8 +47,16 @@ public interface ThreadRepository extends R2dbcRepository<ThreadEntity, UUID> {
     // ==================== VIEW COUNT ====================
 
 
-    @Query("UPDATE forum_threads SET view_count = view_count + 1 WHERE id = :threadId")
-    Mono<Void> incrementViewCount(@Param("threadId") UUID threadId);
+    /**
+     * Applies buffered view counts for many threads in one statement (see ThreadViewCounter).
+     */
+    @Query("""
+        UPDATE forum_threads t
+        SET view_count = t.view_count + v.delta
+        FROM unnest(CAST(:threadIds AS uuid[]), CAST(:deltas AS int[])) AS v(id, delta)
+        WHERE t.id = v.id
+        """)
+    Mono<Integer> incrementViewCounts(@Param("threadIds") UUID[] threadIds, @Param("deltas") Integer[] deltas);
 
     // ==================== SOFT DELETE ====================
     @Query("UPDATE forum_threads SET is_deleted = true, updated_at = NOW() WHERE id = :threadId")
@@ -339,6 +150,51 @@ public interface ThreadRepository extends R2dbcRepository<ThreadEntity, UUID> {
     @Query("UPDATE forum_threads SET last_activity_at = NOW() WHERE id = :threadId")
     Mono<Void> updateLastActivity(@Param("threadId") UUID threadId);
 
+    /**
+     * Applies buffered post deltas for many threads in one statement (see ThreadStatsAggregator).
+     * An activity of 0 leaves last_activity_at untouched; otherwise it only ever moves forward.
+     */
+    @Query("""
+        UPDATE forum_threads t
+        SET post_count = GREATEST(t.post_count + s.delta, 0),
+            last_activity_at = CASE
+                WHEN s.activity_ms > 0 THEN GREATEST(t.last_activity_at, to_timestamp(s.activity_ms / 1000.0))
+                ELSE t.last_activity_at
+            END
+        FROM unnest(CAST(:threadIds AS uuid[]), CAST(:deltas AS int[]), CAST(:activityMillis AS bigint[]))
+            AS s(id, delta, activity_ms)
+        WHERE t.id = s.id
+        """)
+    Mono<Integer> applyPostStats(
+            @Param("threadIds") UUID[] threadIds,
+            @Param("deltas") Integer[] deltas,
+            @Param("activityMillis") Long[] activityMillis);
+
+    /**
+     * Recomputes post_count and last_activity_at from forum_posts in one pass, writing only the rows
+     * that drifted. Threads with a post written after {@code settledBefore} are skipped, since their
+     * deltas may still be buffered on some instance. Returns the number of corrected threads.
+     */
+    @Query("""
+        UPDATE forum_threads t
+        SET post_count = s.live_posts,
+            last_activity_at = GREATEST(t.last_activity_at, s.latest_post_at)
+        FROM (
+            SELECT th.id,
+                   COUNT(p.id) FILTER (WHERE p.is_deleted = false)::int AS live_posts,
+                   MAX(p.created_at) FILTER (WHERE p.is_deleted = false) AS latest_post_at,
+                   MAX(GREATEST(p.created_at, p.updated_at)) AS last_post_write
+            FROM forum_threads th
+            LEFT JOIN forum_posts p ON p.thread_id = th.id
+            GROUP BY th.id
+        ) s
+        WHERE t.id = s.id
+          AND (s.last_post_write IS NULL OR s.last_post_write < :settledBefore)
+          AND (t.post_count IS DISTINCT FROM s.live_posts
+               OR t.last_activity_at IS DISTINCT FROM GREATEST(t.last_activity_at, s.latest_post_at))
+        """)
+    Mono<Integer> reconcilePostStats(@Param("settledBefore") Instant settledBefore);
+
 
     /**
      * Batch fetch thread counts for categories
@@ -0,0 +1,89 @@
+package com.mentalhealthforum.mentalhealthforum_backend.repository;
+
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Ids of threads whose title matches a listing search, fed into {@link ThreadListingRepository}
+ * as {@code t.id = ANY(:titleMatchIds)}.
+ *
+ * <p>Full-text ({@code search_vector}) and trigram ({@code idx_threads_title_trgm}) matching run as
+ * two separate index scans unioned by id; OR-ing them in one predicate defeats both indexes and
+ * falls back to a sequential scan. The lookup itself is cached per search for {@link #TTL} from the
+ * moment it starts, so the page and count queries of one listing, which subscribe concurrently,
+ * share one execution; a failed lookup is evicted. Thread writes call {@link #invalidateAll()}.
+ */
+@Component
+public class ThreadTitleSearchIndex {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_CACHED_SEARCHES = 1_000;
+
+    // Larger match sets are not worth shipping as an array; the listing inlines the union instead
+    private static final int MAX_MATCHED_IDS = 10_000;
+
+    public static final String TITLE_MATCH_UNION_SQL = """
+            SELECT t.id FROM forum_threads t
+            WHERE t.search_vector @@ websearch_to_tsquery('public.english_unaccent', :search)
+            UNION
+            SELECT t.id FROM forum_threads t
+            WHERE public.unaccent_immutable(t.title) % public.unaccent_immutable(:search)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final TtlCache<String, Mono<TitleMatches>> cache = new TtlCache<>(TTL, MAX_CACHED_SEARCHES);
+
+    /**
+     * Matching ids; {@code complete} is false when there were more than {@link #MAX_MATCHED_IDS}
+     * and the caller must use {@link #TITLE_MATCH_UNION_SQL} as a subquery instead.
+     */
+    public record TitleMatches(UUID[] ids, boolean complete) {}
+
+    public ThreadTitleSearchIndex(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<TitleMatches> findMatches(String search) {
+        String key = search.trim().toLowerCase(Locale.ROOT);
+        return Mono.defer(() -> {
+            Mono<TitleMatches> cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            Mono<TitleMatches> lookup = lookup(search)
+                    .doOnError(e -> cache.invalidate(key))
+                    .cache();
+            if (!cache.putIfAbsent(key, lookup)) {
+                // Another caller started the same lookup first
+                Mono<TitleMatches> shared = cache.get(key);
+                if (shared != null) {
+                    return shared;
+                }
+            }
+            return lookup;
+        });
+    }
+
+    private Mono<TitleMatches> lookup(String search) {
+        return databaseClient.sql(TITLE_MATCH_UNION_SQL + " LIMIT :limit")
+                .bind("search", search)
+                .bind("limit", MAX_MATCHED_IDS + 1)
+                .map((row, metadata) -> row.get("id", UUID.class))
+                .all()
+                .collectList()
+                .map(ids -> ids.size() > MAX_MATCHED_IDS
+                        ? new TitleMatches(new UUID[0], false)
+                        : new TitleMatches(ids.toArray(UUID[]::new), true));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
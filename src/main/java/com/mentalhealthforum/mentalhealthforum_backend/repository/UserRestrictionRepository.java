@@ -1,5 +1,7 @@
 package com.mentalhealthforum.mentalhealthforum_backend.repository;
 
+import com.mentalhealthforum.mentalhealthforum_backend.dto.moderationEnhancedActionsAndWorkflows.ActiveRestrictionRecord;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.moderationEnhancedActionsAndWorkflows.RestrictionStatusRecord;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.RestrictionType;
 import com.mentalhealthforum.mentalhealthforum_backend.model.UserRestrictionEntity;
 import org.springframework.data.r2dbc.repository.Query;
@@ -32,6 +34,41 @@ public interface UserRestrictionRepository extends R2dbcRepository<UserRestricti
             @Param("userId") UUID userId,
             @Param("restrictionType") RestrictionType restrictionType);
 
+    /**
+     * All restriction types currently in force for a user, in one round trip.
+     */
+    @Query("""
+        SELECT restriction_type, expires_at
+        FROM user_restrictions
+        WHERE user_id = :userId
+        AND is_active = true
+        AND (expires_at IS NULL OR expires_at > NOW())
+    """)
+    Flux<RestrictionStatusRecord> findActiveRestrictionStatus(@Param("userId") UUID userId);
+
+    /**
+     * Active restrictions of a user with their details and the imposer's public identifier
+     * (display name, else initials, same fallback as AppUserEntity.getPublicIdentifier).
+     */
+    @Query("""
+        SELECT r.id, r.restriction_type, r.reason, r.imposed_by, r.starts_at, r.expires_at,
+            CASE
+                WHEN r.imposed_by IS NULL THEN 'System'
+                WHEN u.keycloak_id IS NULL THEN 'Unknown'
+                WHEN NULLIF(btrim(u.display_name), '') IS NOT NULL THEN u.display_name
+                WHEN NULLIF(btrim(u.first_name), '') IS NOT NULL AND NULLIF(btrim(u.last_name), '') IS NOT NULL
+                    THEN upper(left(u.first_name, 1) || left(u.last_name, 1))
+                WHEN NULLIF(btrim(u.username), '') IS NOT NULL THEN upper(left(u.username, 1))
+                ELSE '??'
+            END AS imposed_by_display_name
+        FROM user_restrictions r
+        LEFT JOIN app_users u ON u.keycloak_id = r.imposed_by
+        WHERE r.user_id = :userId
+        AND r.is_active = true
+        AND (r.expires_at IS NULL OR r.expires_at > NOW())
+    """)
+    Flux<ActiveRestrictionRecord> findActiveRestrictionsWithDetails(@Param("userId") UUID userId);
+
     @Query("""
         UPDATE user_restrictions
         SET is_active = false, lifted_at = NOW(), lifted_by = :liftedBy, lift_reason = :reason
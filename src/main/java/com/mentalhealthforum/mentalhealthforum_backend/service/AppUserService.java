@@ -6,6 +6,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.userProfileAndIdentit
 import com.mentalhealthforum.mentalhealthforum_backend.dto.userProfileAndIdentity.user.UpdateUserProfileRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.userProfileAndIdentity.user.UserResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InsufficientPermissionException;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -81,6 +82,7 @@ public interface AppUserService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     );
 
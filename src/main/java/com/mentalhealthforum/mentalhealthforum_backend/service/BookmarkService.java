@@ -6,6 +6,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.BookmarkReq
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.BookmarkResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -26,6 +27,7 @@ public interface BookmarkService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     );
 
@@ -2,10 +2,18 @@ package com.mentalhealthforum.mentalhealthforum_backend.service;
 
 import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchResult;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchStreamEvent;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.SearchSuggestion;
 import org.springframework.data.domain.Slice;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface GlobalSearchService {
     Mono<Slice<GlobalSearchResult>> searchRegistry(String query, String sortBy, int page, int size, ViewerContext viewerContext);
+
+    Flux<GlobalSearchStreamEvent> streamSearch(String query, String sortBy, int page, int size, ViewerContext viewerContext);
+
+    Mono<List<SearchSuggestion>> suggest(String query, int limit, ViewerContext viewerContext);
 }
@@ -0,0 +1,52 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the total of a paginated listing according to the requested {@link CountStrategy}.
+ * HAS_MORE is handled by the caller (it changes the fetch size), so it resolves to {@link #UNKNOWN_TOTAL}.
+ */
+@Component
+public class ListingCountResolver {
+
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    private static final Duration CACHED_COUNT_TTL = Duration.ofSeconds(30);
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final TtlCache<String, Long> countCache = new TtlCache<>(CACHED_COUNT_TTL, MAX_CACHED_COUNTS);
+
+    /**
+     * @param cacheKey       listing name plus normalized filter tuple
+     * @param exactCount     the listing's COUNT(*) query
+     * @param estimatedCount planner estimate, or null when the listing cannot provide one
+     */
+    public Mono<Long> resolve(
+            CountStrategy strategy,
+            String cacheKey,
+            Supplier<Mono<Long>> exactCount,
+            Supplier<Mono<Long>> estimatedCount) {
+
+        return switch (strategy) {
+            case EXACT -> exactCount.get();
+            case HAS_MORE -> Mono.just(UNKNOWN_TOTAL);
+            case ESTIMATED -> estimatedCount != null
+                    ? estimatedCount.get()
+                    : countCache.getOrLoad(cacheKey, exactCount);
+            case CACHED -> countCache.getOrLoad(cacheKey, exactCount);
+        };
+    }
+
+    /**
+     * Number of rows to fetch for a page: one extra row lets HAS_MORE detect a following page.
+     */
+    public int fetchSize(CountStrategy strategy, int size) {
+        return strategy == CountStrategy.HAS_MORE ? size + 1 : size;
+    }
+}
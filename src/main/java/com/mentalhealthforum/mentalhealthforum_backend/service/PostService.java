@@ -5,8 +5,11 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.AddContentWarningRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.CreatePostRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.PostResponse;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.ReplyTreeNode;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.UpdatePostRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.PostType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -41,6 +44,18 @@ public interface PostService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
+            ViewerContext viewerContext
+    );
+
+    /**
+     * Bounded reply tree of a thread (or of one post's subtree), streamed depth-first.
+     */
+    Flux<ReplyTreeNode> getConversation(
+            UUID threadId,
+            UUID rootPostId,
+            int maxDepth,
+            int maxChildren,
             ViewerContext viewerContext
     );
 
@@ -0,0 +1,181 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.config.ReactionProperties;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ReactionType;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReactionRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReactionSummaryRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces reaction toggles per post.
+ *
+ * <p>The first toggle on a post opens a batch that collects further toggles for
+ * {@code forum.reactions.coalesce-window} (or until {@code max-batch-size} users are waiting). The
+ * batch is then applied in one transaction: one set-based DELETE, one set-based INSERT and a single
+ * counter update on {@code post_reaction_summaries}. A user toggling twice inside the window only
+ * keeps the last toggle. Callers complete when the batch holding their toggle is committed, or
+ * all fail together with its error.
+ *
+ * <p>Batches of the same post are applied one after another, so a later batch always sees the rows
+ * an earlier one committed. Pending batches are flushed and awaited on shutdown.
+ */
+@Component
+public class ReactionIngestionBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactionIngestionBuffer.class);
+
+    // Stands for "remove my reaction" in the toggle arrays
+    private static final String NO_REACTION = "";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PostReactionRepository postReactionRepository;
+    private final PostReactionSummaryRepository postReactionSummaryRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final ReactionProperties reactionProperties;
+    private final Map<UUID, PendingBatch> pending = new ConcurrentHashMap<>();
+    // Completes when the last batch handed to apply for the post has finished
+    private final Map<UUID, Mono<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public ReactionIngestionBuffer(
+            PostReactionRepository postReactionRepository,
+            PostReactionSummaryRepository postReactionSummaryRepository,
+            TransactionalOperator transactionalOperator,
+            ReactionProperties reactionProperties) {
+        this.postReactionRepository = postReactionRepository;
+        this.postReactionSummaryRepository = postReactionSummaryRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.reactionProperties = reactionProperties;
+    }
+
+    /**
+     * Queues the user's reaction on the post and completes once it is written.
+     *
+     * @param reactionType the reaction to set, or null to remove the user's reaction
+     */
+    public Mono<Void> submit(UUID postId, UUID userId, ReactionType reactionType) {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> written = Sinks.empty();
+            enqueue(postId, userId, reactionType != null ? reactionType.name() : NO_REACTION, written);
+            return written.asMono();
+        });
+    }
+
+    private void enqueue(UUID postId, UUID userId, String reactionType, Sinks.Empty<Void> written) {
+        while (true) {
+            PendingBatch opened = new PendingBatch();
+            PendingBatch batch = pending.putIfAbsent(postId, opened);
+            if (batch == null) {
+                batch = opened;
+                PendingBatch scheduled = opened;
+                Mono.delay(reactionProperties.getCoalesceWindow())
+                        .subscribe(tick -> flush(postId, scheduled));
+            }
+
+            boolean full;
+            synchronized (batch) {
+                if (batch.closed) {
+                    // Flushed between lookup and lock; open a new batch
+                    continue;
+                }
+                batch.toggles.put(userId, reactionType);
+                batch.waiters.add(written);
+                full = batch.waiters.size() >= reactionProperties.getMaxBatchSize();
+            }
+            if (full) {
+                flush(postId, batch);
+            }
+            return;
+        }
+    }
+
+    private void flush(UUID postId, PendingBatch batch) {
+        pending.remove(postId, batch);
+
+        Map<UUID, String> toggles;
+        List<Sinks.Empty<Void>> waiters;
+        synchronized (batch) {
+            if (batch.closed) {
+                return;
+            }
+            batch.closed = true;
+            toggles = batch.toggles;
+            waiters = batch.waiters;
+        }
+
+        Sinks.Empty<Void> done = Sinks.empty();
+        Mono<Void> finished = done.asMono();
+        Mono<Void> previous = inFlight.put(postId, finished);
+
+        (previous != null ? previous : Mono.<Void>empty())
+                .then(Mono.defer(() -> apply(postId, toggles)))
+                .doFinally(signal -> {
+                    inFlight.remove(postId, finished);
+                    done.tryEmitEmpty();
+                })
+                .subscribe(
+                        null,
+                        error -> {
+                            log.error("Failed to apply {} reaction toggles on post {}: {}", toggles.size(), postId, error.getMessage());
+                            waiters.forEach(waiter -> waiter.tryEmitError(error));
+                        },
+                        () -> waiters.forEach(Sinks.Empty::tryEmitEmpty));
+    }
+
+    private Mono<Void> apply(UUID postId, Map<UUID, String> toggles) {
+        UUID[] userIds = toggles.keySet().toArray(UUID[]::new);
+        String[] reactionTypes = toggles.values().toArray(String[]::new);
+
+        return postReactionRepository.deleteToggled(postId, userIds, reactionTypes)
+                .collectList()
+                .zipWhen(deleted -> postReactionRepository.insertToggled(postId, userIds, reactionTypes).collectList())
+                .flatMap(tuple -> {
+                    List<String> deleted = tuple.getT1();
+                    List<String> inserted = tuple.getT2();
+
+                    Map<String, Integer> deltas = new HashMap<>();
+                    deleted.forEach(type -> deltas.merge(type, -1, Integer::sum));
+                    inserted.forEach(type -> deltas.merge(type, 1, Integer::sum));
+                    deltas.values().removeIf(delta -> delta == 0);
+                    if (deltas.isEmpty()) {
+                        return Mono.<Void>empty();
+                    }
+
+                    log.debug("Applied {} reaction toggles on post {}: {}", toggles.size(), postId, deltas);
+                    return postReactionSummaryRepository.applyDeltas(
+                            postId, JsonUtils.objectToJsonString(deltas), inserted.size() - deleted.size());
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        List.copyOf(pending.entrySet()).forEach(entry -> flush(entry.getKey(), entry.getValue()));
+        try {
+            Mono.when(List.copyOf(inFlight.values())).block(SHUTDOWN_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Reaction toggle flush on shutdown failed: {}", e.getMessage());
+        }
+    }
+
+    private static final class PendingBatch {
+        private final Map<UUID, String> toggles = new LinkedHashMap<>();
+        private final List<Sinks.Empty<Void>> waiters = new ArrayList<>();
+        private boolean closed;
+    }
+}
@@ -0,0 +1,143 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.model.*;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.*;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Immutable in-memory snapshot of the forum's reference tables: thread types and statuses, reaction
+ * definitions, and report / moderation action / dismissal reason templates.
+ *
+ * <p>Loaded once the application is ready and served from memory afterwards. {@link #refresh()} (exposed
+ * to admins) swaps in a freshly loaded snapshot after the tables are edited; the TTL only bounds
+ * staleness on other instances. {@link Snapshot#version()} is a content hash, identical across
+ * instances, and is used as the ETag of the reference data endpoints.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofHours(1);
+
+    /** Cache-Control for the public reference data endpoints. */
+    public static final CacheControl PUBLIC_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    /** Cache-Control for reference data filtered per viewer (moderator templates). */
+    public static final CacheControl PRIVATE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate();
+
+    private final ThreadTypeDefinitionRepository threadTypeDefinitionRepository;
+    private final ThreadStatusDefinitionRepository threadStatusDefinitionRepository;
+    private final ReactionDefinitionRepository reactionDefinitionRepository;
+    private final ReportTemplateRepository reportTemplateRepository;
+    private final ModerationActionTemplateRepository moderationActionTemplateRepository;
+    private final DismissalReasonTemplateRepository dismissalReasonTemplateRepository;
+
+    private volatile Mono<Snapshot> snapshot;
+
+    public ReferenceDataCache(
+            ThreadTypeDefinitionRepository threadTypeDefinitionRepository,
+            ThreadStatusDefinitionRepository threadStatusDefinitionRepository,
+            ReactionDefinitionRepository reactionDefinitionRepository,
+            ReportTemplateRepository reportTemplateRepository,
+            ModerationActionTemplateRepository moderationActionTemplateRepository,
+            DismissalReasonTemplateRepository dismissalReasonTemplateRepository) {
+        this.threadTypeDefinitionRepository = threadTypeDefinitionRepository;
+        this.threadStatusDefinitionRepository = threadStatusDefinitionRepository;
+        this.reactionDefinitionRepository = reactionDefinitionRepository;
+        this.reportTemplateRepository = reportTemplateRepository;
+        this.moderationActionTemplateRepository = moderationActionTemplateRepository;
+        this.dismissalReasonTemplateRepository = dismissalReasonTemplateRepository;
+        this.snapshot = newSnapshot();
+    }
+
+    /**
+     * Reference data rows, in the order the endpoints return them.
+     * Report, moderation action and dismissal reason templates only include active rows.
+     */
+    public record Snapshot(
+            List<ThreadTypeDefinitionEntity> threadTypes,
+            List<ThreadStatusDefinitionEntity> threadStatuses,
+            List<ReactionDefinitionEntity> reactionDefinitions,
+            List<ReportTemplateEntity> reportTemplates,
+            List<ModerationActionTemplateEntity> moderationActionTemplates,
+            List<DismissalReasonTemplateEntity> dismissalReasonTemplates,
+            String version
+    ) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        snapshot.subscribe(
+                loaded -> log.info("Reference data loaded (version {})", loaded.version()),
+                error -> log.error("Failed to load reference data at startup: {}", error.getMessage())
+        );
+    }
+
+    public Mono<Snapshot> snapshot() {
+        return snapshot;
+    }
+
+    public Mono<String> version() {
+        return snapshot.map(Snapshot::version);
+    }
+
+    /**
+     * Reloads every reference table and swaps the snapshot in once it has loaded.
+     */
+    public Mono<Snapshot> refresh() {
+        Mono<Snapshot> next = newSnapshot();
+        return next.doOnNext(loaded -> {
+            this.snapshot = next;
+            log.info("Reference data refreshed (version {})", loaded.version());
+        });
+    }
+
+    private Mono<Snapshot> newSnapshot() {
+        return Mono.zip(
+                        threadTypeDefinitionRepository.findAllByOrderByDisplayNameASC().collectList(),
+                        threadStatusDefinitionRepository.findAllByOrderByDisplayNameASC().collectList(),
+                        reactionDefinitionRepository.findAllByOrderBySortOrderAsc().collectList(),
+                        reportTemplateRepository.findByIsActiveTrueOrderByDisplayOrderAsc().collectList(),
+                        moderationActionTemplateRepository.findByIsActiveTrueOrderByDisplayOrderAsc().collectList(),
+                        dismissalReasonTemplateRepository.findByIsActiveTrueOrderByDisplayOrderAsc().collectList()
+                )
+                .map(tuple -> {
+                    List<Object> tables = List.of(
+                            tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4(), tuple.getT5(), tuple.getT6());
+                    return new Snapshot(
+                            List.copyOf(tuple.getT1()),
+                            List.copyOf(tuple.getT2()),
+                            List.copyOf(tuple.getT3()),
+                            List.copyOf(tuple.getT4()),
+                            List.copyOf(tuple.getT5()),
+                            List.copyOf(tuple.getT6()),
+                            contentHash(tables)
+                    );
+                })
+                .cache(value -> SNAPSHOT_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private String contentHash(Object content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(JsonUtils.objectToJsonString(content).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportCategory;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReportTargetType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.Severity;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -35,6 +36,7 @@ public interface ReportService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     );
 
@@ -54,6 +56,7 @@ public interface ReportService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext);
 
     Mono<ReportResponse> getReportById(UUID reportId, ViewerContext viewerContext);
@@ -0,0 +1,94 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.moderationEnhancedActionsAndWorkflows.RestrictionStatus;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.UserRestrictionRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-user cache of active restriction types, consulted on every authenticated request.
+ *
+ * <p>An entry lives for at most {@link #MAX_TTL}, and never past the earliest expiry among the
+ * user's restrictions, so a lapsing suspension is picked up on time. Moderation writes call
+ * {@link #invalidate(UUID)} so new or lifted restrictions apply immediately. Each invalidation bumps
+ * a generation (striped by user id), and a load that started before the bump never stores its
+ * result, so a lookup racing a ban cannot re-cache the pre-ban status.
+ * Hits and misses are exported as {@code forum.restriction.status.cache{result=hit|miss}}.
+ */
+@Component
+public class RestrictionStatusCache {
+
+    private static final Duration MAX_TTL = Duration.ofMinutes(5);
+    private static final int MAX_ENTRIES = 50_000;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final UserRestrictionRepository userRestrictionRepository;
+    private final TtlCache<UUID, RestrictionStatus> cache = new TtlCache<>(MAX_TTL, MAX_ENTRIES);
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+
+    public RestrictionStatusCache(UserRestrictionRepository userRestrictionRepository, MeterRegistry meterRegistry) {
+        this.userRestrictionRepository = userRestrictionRepository;
+        this.hits = Counter.builder("forum.restriction.status.cache")
+                .description("Restriction status lookups served from cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("forum.restriction.status.cache")
+                .description("Restriction status lookups loaded from the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Mono<RestrictionStatus> getStatus(UUID userId) {
+        RestrictionStatus cached = cache.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+        }
+        misses.increment();
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        return userRestrictionRepository.findActiveRestrictionStatus(userId)
+                .collectList()
+                .map(RestrictionStatus::from)
+                .doOnNext(status -> {
+                    if (generations.get(stripe) != generation) {
+                        return;
+                    }
+                    cache.put(userId, status, ttlFor(status));
+                    // An invalidate between the check and the put may have removed nothing; undo ours
+                    if (generations.get(stripe) != generation) {
+                        cache.invalidate(userId);
+                    }
+                });
+    }
+
+    public void invalidate(UUID userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    private static int stripe(UUID userId) {
+        return Math.floorMod(userId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private Duration ttlFor(RestrictionStatus status) {
+        if (status.earliestExpiresAt() == null) {
+            return MAX_TTL;
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), status.earliestExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(MAX_TTL) < 0 ? untilExpiry : MAX_TTL;
+    }
+}
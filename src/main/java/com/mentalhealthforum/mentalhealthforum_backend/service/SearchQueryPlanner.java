@@ -0,0 +1,178 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.config.SearchProperties;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SearchPlan;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.SearchLexemeStatsRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.SearchLexemeStatsRepository.LexemeFrequency;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Chooses a {@link SearchPlan} for a global search query before any branch runs.
+ *
+ * <p>The query is split the way websearch_to_tsquery reads it: "or" separates alternatives,
+ * quoted phrases and plain words inside an alternative are ANDed, and {@code -term} negations are
+ * ignored since they only narrow the match. An alternative matches at most the share of posts of
+ * its rarest lexeme; alternatives add up. The shares come from {@code search_lexeme_stats},
+ * refreshed nightly ({@code forum.search.planner.stats-refresh-cron}).
+ *
+ * <p>Plans are cached per normalized query until the next refresh. Any failure to estimate plans
+ * the query FULL, so a missing table only costs the guard, never the search.
+ */
+@Component
+public class SearchQueryPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchQueryPlanner.class);
+
+    private static final Pattern TOKEN = Pattern.compile("-?\"[^\"]*\"?|\\S+");
+    private static final int MAX_ESTIMATED_TERMS = 16;
+    private static final Duration PLAN_TTL = Duration.ofHours(1);
+    private static final int MAX_CACHED_PLANS = 10_000;
+
+    private final SearchLexemeStatsRepository searchLexemeStatsRepository;
+    private final SearchProperties searchProperties;
+    private final TtlCache<String, SearchPlan> plans = new TtlCache<>(PLAN_TTL, MAX_CACHED_PLANS);
+
+    public SearchQueryPlanner(SearchLexemeStatsRepository searchLexemeStatsRepository, SearchProperties searchProperties) {
+        this.searchLexemeStatsRepository = searchLexemeStatsRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    public Mono<SearchPlan> plan(String rawQuery) {
+        String normalizedQuery = rawQuery.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        SearchPlan cached = plans.get(normalizedQuery);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        SearchProperties.Planner planner = searchProperties.getPlanner();
+        List<List<String>> alternatives = parse(normalizedQuery);
+        if (alternatives.size() > planner.getMaxOrTerms()) {
+            log.debug("Search query '{}' has {} alternatives, skipping posts", rawQuery, alternatives.size());
+            plans.put(normalizedQuery, SearchPlan.SKIP_POSTS);
+            return Mono.just(SearchPlan.SKIP_POSTS);
+        }
+
+        Set<String> terms = alternatives.stream()
+                .flatMap(List::stream)
+                .limit(MAX_ESTIMATED_TERMS)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (terms.isEmpty()) {
+            return Mono.just(SearchPlan.FULL);
+        }
+
+        return searchLexemeStatsRepository.findFrequencies(terms)
+                .collectMultimap(LexemeFrequency::term)
+                .map(frequenciesByTerm -> {
+                    Map<String, Double> fractions = new HashMap<>();
+                    frequenciesByTerm.forEach((term, frequencies) -> fractions.put(term, termFraction(frequencies)));
+                    double estimate = estimate(alternatives, fractions);
+                    SearchPlan plan = choose(estimate, planner);
+                    log.debug("Search query '{}' estimated to match {} of posts, plan {}", rawQuery, estimate, plan);
+                    plans.put(normalizedQuery, plan);
+                    return plan;
+                })
+                .onErrorResume(e -> {
+                    log.warn("Could not estimate search query '{}', planning FULL: {}", rawQuery, e.getMessage());
+                    return Mono.just(SearchPlan.FULL);
+                });
+    }
+
+    // ==================== ESTIMATION ====================
+
+    /**
+     * Alternatives of the query, each a list of the terms that must all match. Phrases count as
+     * one term whose words must all match.
+     */
+    private static List<List<String>> parse(String normalizedQuery) {
+        List<List<String>> alternatives = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(normalizedQuery);
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (token.equals("or")) {
+                if (!current.isEmpty()) {
+                    alternatives.add(current);
+                    current = new ArrayList<>();
+                }
+                continue;
+            }
+            if (token.startsWith("-")) {
+                continue;
+            }
+            String term = token.replace("\"", "").trim();
+            if (!term.isEmpty()) {
+                current.add(term);
+            }
+        }
+        if (!current.isEmpty()) {
+            alternatives.add(current);
+        }
+        return alternatives;
+    }
+
+    /**
+     * A term matches no more posts than its rarest lexeme; a term made only of stop words matches
+     * nothing on its own and places no bound (null).
+     */
+    private static Double termFraction(Collection<LexemeFrequency> frequencies) {
+        return frequencies.stream()
+                .map(LexemeFrequency::fraction)
+                .min(Double::compare)
+                .orElse(null);
+    }
+
+    private static double estimate(List<List<String>> alternatives, Map<String, Double> fractions) {
+        double total = 0;
+        for (List<String> alternative : alternatives) {
+            total += alternative.stream()
+                    .map(fractions::get)
+                    .filter(fraction -> fraction != null)
+                    .min(Double::compare)
+                    .orElse(0.0);
+        }
+        return Math.min(1.0, total);
+    }
+
+    private static SearchPlan choose(double estimate, SearchProperties.Planner planner) {
+        if (estimate >= planner.getSkipPostsThreshold()) {
+            return SearchPlan.SKIP_POSTS;
+        }
+        if (estimate >= planner.getRecentPostsThreshold()) {
+            return SearchPlan.RECENT_POSTS;
+        }
+        return SearchPlan.FULL;
+    }
+
+    // ==================== STATISTICS REFRESH ====================
+
+    @Scheduled(cron = "${forum.search.planner.stats-refresh-cron:0 30 3 * * *}")
+    public void refreshStatistics() {
+        log.info("Cron: Refreshing search lexeme statistics...");
+        searchLexemeStatsRepository.refresh()
+                .doOnSuccess(stored -> {
+                    plans.invalidateAll();
+                    log.info("Search lexeme statistics refreshed with {} lexemes", stored);
+                })
+                .doOnError(e -> log.error("Failed to refresh search lexeme statistics: {}", e.getMessage()))
+                .onErrorComplete()
+                .block();
+    }
+}
@@ -0,0 +1,73 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchHit;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SearchPlan;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ranked global search hits shared by all viewers of a {@link ViewerTier}, keyed by normalized
+ * query, sort, page, size and the {@link SearchPlan} the ranking was computed under.
+ *
+ * <p>Keys carry the content generation current when the search started. Writes to searchable
+ * content call {@link #contentChanged()}, which moves later searches to fresh keys and drops the
+ * older entries; a search still running against the old data stores its result under the old
+ * generation, where nobody reads it again. Hits and misses are exported as {@code forum.search.result.cache{result=hit|miss}}.
+ */
+@Component
+public class SearchResultCache {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_ENTRIES = 2_000;
+
+    private final TtlCache<Key, List<GlobalSearchHit>> cache = new TtlCache<>(TTL, MAX_ENTRIES);
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public record Key(String query, String sortBy, int page, int size, ViewerTier tier, SearchPlan plan, long generation) {}
+
+    public SearchResultCache(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("forum.search.result.cache")
+                .description("Global search rankings served from cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("forum.search.result.cache")
+                .description("Global search rankings computed by the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Key keyFor(String query, String sortBy, int page, int size, ViewerTier tier, SearchPlan plan) {
+        String normalizedQuery = query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        String normalizedSort = "recent".equalsIgnoreCase(sortBy) ? "recent" : "relevance";
+        return new Key(normalizedQuery, normalizedSort, page, size, tier, plan, generation.get());
+    }
+
+    public List<GlobalSearchHit> get(Key key) {
+        List<GlobalSearchHit> cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    public void put(Key key, List<GlobalSearchHit> rankedHits) {
+        cache.put(key, List.copyOf(rankedHits));
+    }
+
+    public void contentChanged() {
+        long current = generation.incrementAndGet();
+        cache.invalidateIf(key -> key.generation() < current);
+    }
+}
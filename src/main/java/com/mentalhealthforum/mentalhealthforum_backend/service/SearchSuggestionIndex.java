@@ -0,0 +1,247 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.SearchSuggestion;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.SuggestionSource;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ProfileVisibility;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SuggestionType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
+import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.SearchSuggestionRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.NormalizeUtils;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory word-prefix index over thread titles, category names, tag names and display names,
+ * backing search-as-you-type.
+ *
+ * <p>Every label is normalized ({@link NormalizeUtils#normalizeUnicode}, lower case, punctuation
+ * collapsed to single spaces) and stored once per word start in a sorted map, so "wi" and
+ * "coping wi" both find "Coping with anxiety" with one range scan. Thread and profile writes update
+ * their entries directly; category and tag writes reload those two (small) types. A full rebuild
+ * runs at startup and every {@code forum.search.suggest-rebuild-interval-ms} (default 10 min) to
+ * pick up writes made by other instances.
+ *
+ * <p>Results are cached per tier and prefix for {@link #RESULT_TTL}, which absorbs the burst of
+ * requests a user produces while typing.
+ */
+@Component
+public class SearchSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchSuggestionIndex.class);
+
+    private static final int MAX_INDEXED_WORDS = 12;
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_SCANNED_KEYS = 500;
+    private static final Duration RESULT_TTL = Duration.ofSeconds(15);
+    private static final int MAX_CACHED_PREFIXES = 10_000;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final SearchSuggestionRepository searchSuggestionRepository;
+    private final TtlCache<String, List<SearchSuggestion>> results = new TtlCache<>(RESULT_TTL, MAX_CACHED_PREFIXES);
+
+    private volatile Index index = new Index();
+
+    public SearchSuggestionIndex(SearchSuggestionRepository searchSuggestionRepository) {
+        this.searchSuggestionRepository = searchSuggestionRepository;
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Up to {@code limit} entries whose label has a word starting with {@code prefix}, restricted to
+     * what the viewer may see.
+     *
+     * @param visibleCategoryIds categories visible to {@code tier}
+     */
+    public List<SearchSuggestion> suggest(String prefix, int limit, ViewerTier tier, Set<UUID> visibleCategoryIds) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        String cacheKey = tier + ":" + limit + ":" + normalizedPrefix;
+        List<SearchSuggestion> cached = results.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ConcurrentNavigableMap<String, SuggestionSource> range =
+                index.keys.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false);
+
+        List<SearchSuggestion> suggestions = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        int scanned = 0;
+        for (SuggestionSource source : range.values()) {
+            if (suggestions.size() >= limit || ++scanned > MAX_SCANNED_KEYS) {
+                break;
+            }
+            if (isVisible(source, tier, visibleCategoryIds) && seen.add(entityKey(source.type(), source.entityId()))) {
+                suggestions.add(new SearchSuggestion(source.entityId(), source.type().name(), source.label()));
+            }
+        }
+
+        List<SearchSuggestion> result = List.copyOf(suggestions);
+        results.put(cacheKey, result);
+        return result;
+    }
+
+    private boolean isVisible(SuggestionSource source, ViewerTier tier, Set<UUID> visibleCategoryIds) {
+        if (source.type() == SuggestionType.PROFILE) {
+            // Members-only profiles: viewer must be logged in
+            return tier.isMember();
+        }
+        return source.categoryIds().stream().anyMatch(visibleCategoryIds::contains);
+    }
+
+    // ==================== INCREMENTAL UPDATES ====================
+
+    public void indexThread(ThreadEntity thread) {
+        if (Boolean.TRUE.equals(thread.getIsDeleted())) {
+            remove(SuggestionType.THREAD, thread.getId());
+            return;
+        }
+        indexThread(thread.getId(), thread.getTitle(), thread.getCategoryId());
+    }
+
+    public void indexThread(UUID threadId, String title, UUID categoryId) {
+        put(new SuggestionSource(SuggestionType.THREAD, threadId, title, List.of(categoryId)));
+    }
+
+    public void indexProfile(AppUserEntity user) {
+        boolean suggestible = Boolean.TRUE.equals(user.getIsActive())
+                && user.getAccountDeletionRequestedAt() == null
+                && user.getProfileVisibility() == ProfileVisibility.MEMBERS_ONLY
+                && user.getDisplayName() != null;
+        if (!suggestible) {
+            remove(SuggestionType.PROFILE, user.getId());
+            return;
+        }
+        put(new SuggestionSource(SuggestionType.PROFILE, user.getId(), user.getDisplayName(), List.of()));
+    }
+
+    public void remove(SuggestionType type, UUID entityId) {
+        Index current = index;
+        SuggestionSource previous = current.sources.remove(entityKey(type, entityId));
+        if (previous != null) {
+            keysOf(previous).forEach(current.keys::remove);
+        }
+    }
+
+    /**
+     * Reloads every entry of one type, e.g. after a category or tag write that may touch many labels
+     * or visibility sets at once.
+     */
+    public void reload(SuggestionType type) {
+        searchSuggestionRepository.findByType(type)
+                .collectList()
+                .subscribe(
+                        sources -> {
+                            Index current = index;
+                            List.copyOf(current.sources.values()).stream()
+                                    .filter(source -> source.type() == type)
+                                    .forEach(source -> remove(type, source.entityId()));
+                            sources.forEach(this::put);
+                            log.debug("Reloaded {} {} search suggestions", sources.size(), type);
+                        },
+                        error -> log.error("Failed to reload {} search suggestions: {}", type, error.getMessage())
+                );
+    }
+
+    private void put(SuggestionSource source) {
+        remove(source.type(), source.entityId());
+        if (source.label() != null && !source.label().isBlank()) {
+            index.add(source);
+        }
+    }
+
+    // ==================== FULL REBUILD ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${forum.search.suggest-rebuild-interval-ms:600000}",
+            fixedDelayString = "${forum.search.suggest-rebuild-interval-ms:600000}")
+    public void rebuild() {
+        searchSuggestionRepository.findAll()
+                .collectList()
+                .subscribe(
+                        sources -> {
+                            Index rebuilt = new Index();
+                            sources.forEach(rebuilt::add);
+                            this.index = rebuilt;
+                            log.info("Search suggestion index rebuilt with {} entries", rebuilt.sources.size());
+                        },
+                        error -> log.error("Failed to rebuild search suggestion index: {}", error.getMessage())
+                );
+    }
+
+    // ==================== KEYS ====================
+
+    private static String entityKey(SuggestionType type, UUID entityId) {
+        return type + ":" + entityId;
+    }
+
+    /**
+     * One key per word start: the normalized label from that word on, truncated, followed by the
+     * entity key so equal labels of different entities do not collide.
+     */
+    private static List<String> keysOf(SuggestionSource source) {
+        String normalized = normalize(source.label());
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String suffix = KEY_SEPARATOR + entityKey(source.type(), source.entityId());
+        List<String> words = Arrays.asList(normalized.split(" "));
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < Math.min(words.size(), MAX_INDEXED_WORDS); i++) {
+            String fromWord = String.join(" ", words.subList(i, words.size()));
+            if (fromWord.length() > MAX_KEY_LENGTH) {
+                fromWord = fromWord.substring(0, MAX_KEY_LENGTH);
+            }
+            keys.add(fromWord + suffix);
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return Arrays.stream(NormalizeUtils.normalizeUnicode(text)
+                        .toLowerCase(Locale.ROOT)
+                        .split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.joining(" "));
+    }
+
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, SuggestionSource> keys = new ConcurrentSkipListMap<>();
+        private final Map<String, SuggestionSource> sources = new ConcurrentHashMap<>();
+
+        private void add(SuggestionSource source) {
+            sources.put(entityKey(source.type(), source.entityId()), source);
+            keysOf(source).forEach(key -> keys.put(key, source));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAnd
 import com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadStatusDefinitionEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadTypeDefinitionEntity;
 import reactor.core.publisher.Flux;
@@ -36,6 +37,30 @@ public interface ThreadService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
+            ViewerContext viewerContext
+    );
+
+    /**
+     * Keyset-paginated variant of {@link #getAllThreads}. A null or blank cursor starts from the first page;
+     * the response carries the cursor for the next page.
+     */
+    Mono<PaginatedResponse<ThreadResponse>> getAllThreadsByCursor(
+            String cursor,
+            int size,
+            UUID categoryId,
+            UUID creatorId,
+            ThreadType threadType,
+            ThreadStatus threadStatus,
+            Boolean isDeleted,
+            Boolean isFeatured,
+            Boolean hasContentWarning,
+            Boolean isBookmarked,
+            Boolean isWatched,
+            UUID categoryTagId,
+            String search,
+            String sortBy,
+            String sortDirection,
             ViewerContext viewerContext
     );
 
@@ -0,0 +1,144 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.repository.ThreadRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind maintenance of {@code forum_threads.post_count} and {@code last_activity_at}.
+ *
+ * <p>Post creates, soft deletes and restores only merge a delta into an in-memory per-thread entry;
+ * pending deltas are written in one multi-row UPDATE on a fixed delay
+ * ({@code forum.thread-stats.flush-interval-ms}, default 2s) and on shutdown, so a busy thread is not
+ * updated once per post. A nightly reconciliation ({@code forum.thread-stats.reconcile-cron}) recomputes
+ * both columns from {@code forum_posts} in bulk and corrects whatever drifted (crashes, other writers,
+ * merges and splits of soft-deleted posts). Callers record deltas only after their transaction commits.
+ *
+ * <p>Other instances cannot be drained from here, so the reconciliation skips threads with a post
+ * written in the last {@link #RECONCILE_SETTLE_WINDOW}; their pending deltas would otherwise be
+ * applied on top of the recomputed count. Those threads are picked up by the next run.
+ */
+@Component
+public class ThreadStatsAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadStatsAggregator.class);
+
+    private static final Duration RECONCILE_SETTLE_WINDOW = Duration.ofMinutes(5);
+
+    private final ThreadRepository threadRepository;
+    private final Map<UUID, PendingStats> pendingStats = new ConcurrentHashMap<>();
+
+    public ThreadStatsAggregator(ThreadRepository threadRepository) {
+        this.threadRepository = threadRepository;
+    }
+
+    // ==================== RECORDING ====================
+
+    public void recordPostCreated(UUID threadId, Instant createdAt) {
+        Instant activity = createdAt != null ? createdAt : Instant.now();
+        record(threadId, new PendingStats(1, activity.toEpochMilli()));
+    }
+
+    public void recordPostRemoved(UUID threadId) {
+        record(threadId, new PendingStats(-1, 0L));
+    }
+
+    public void recordPostRestored(UUID threadId) {
+        record(threadId, new PendingStats(1, 0L));
+    }
+
+    private void record(UUID threadId, PendingStats stats) {
+        if (threadId != null) {
+            pendingStats.merge(threadId, stats, PendingStats::plus);
+        }
+    }
+
+    // ==================== FLUSH ====================
+
+    @Scheduled(fixedDelayString = "${forum.thread-stats.flush-interval-ms:2000}")
+    public void flush() {
+        if (pendingStats.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>();
+        List<PendingStats> drained = new ArrayList<>();
+        for (UUID threadId : List.copyOf(pendingStats.keySet())) {
+            PendingStats stats = pendingStats.remove(threadId);
+            if (stats != null && !stats.isEmpty()) {
+                ids.add(threadId);
+                drained.add(stats);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        threadRepository.applyPostStats(
+                        ids.toArray(UUID[]::new),
+                        drained.stream().map(PendingStats::delta).toArray(Integer[]::new),
+                        drained.stream().map(PendingStats::activityMillis).toArray(Long[]::new))
+                .doOnSuccess(updated -> log.debug("Flushed post stats for {} threads", updated))
+                .doOnError(e -> {
+                    log.error("Failed to flush post stats for {} threads, re-queueing: {}", ids.size(), e.getMessage());
+                    for (int i = 0; i < ids.size(); i++) {
+                        record(ids.get(i), drained.get(i));
+                    }
+                })
+                .onErrorComplete()
+                .block();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Thread stats flush on shutdown failed: {}", e.getMessage());
+        }
+    }
+
+    // ==================== RECONCILIATION ====================
+
+    @Scheduled(cron = "${forum.thread-stats.reconcile-cron:0 15 3 * * *}")
+    public void reconcile() {
+        log.info("Cron: Initiating reconciliation of thread post counts and last activity...");
+
+        // Write out local deltas first so they are not applied on top of the recomputed counts
+        flush();
+
+        threadRepository.reconcilePostStats(Instant.now().minus(RECONCILE_SETTLE_WINDOW))
+                .doOnSuccess(count -> {
+                    if (count > 0) { log.info("Cron Success: Corrected post stats of {} drifted threads.", count); }
+                    else { log.debug("Cron Success: No drifted thread post stats found."); }
+                })
+                .doOnError(e -> log.error("Cron Failure: Failed to reconcile thread post stats. Reason: {}", e.getMessage()))
+                .onErrorComplete()
+                .block();
+    }
+
+    /**
+     * Net post delta and latest post creation time (epoch millis, 0 when none) not yet written.
+     */
+    private record PendingStats(int delta, long activityMillis) {
+
+        private PendingStats plus(PendingStats other) {
+            return new PendingStats(delta + other.delta, Math.max(activityMillis, other.activityMillis));
+        }
+
+        private boolean isEmpty() {
+            return delta == 0 && activityMillis == 0L;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mentalhealthforum.mentalhealthforum_backend.service;
+
+import com.mentalhealthforum.mentalhealthforum_backend.repository.ThreadRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind thread view counter.
+ *
+ * <p>Reading a thread only bumps an in-memory per-thread count; pending views are written to
+ * {@code forum_threads.view_count} in one multi-row UPDATE on a fixed delay
+ * ({@code forum.views.flush-interval-ms}, default 5s) and on shutdown. A signed-in viewer is counted
+ * once per thread per {@link #DEDUP_WINDOW}. Counts are approximate by design: a crash loses at most
+ * one flush interval of views.
+ */
+@Component
+public class ThreadViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadViewCounter.class);
+
+    private static final Duration DEDUP_WINDOW = Duration.ofMinutes(30);
+    private static final int MAX_TRACKED_VIEWS = 100_000;
+
+    private final ThreadRepository threadRepository;
+    private final Map<UUID, Integer> pendingViews = new ConcurrentHashMap<>();
+    private final TtlCache<String, Boolean> recentViewers = new TtlCache<>(DEDUP_WINDOW, MAX_TRACKED_VIEWS);
+
+    public ThreadViewCounter(ThreadRepository threadRepository) {
+        this.threadRepository = threadRepository;
+    }
+
+    /**
+     * Records a view of {@code threadId}; repeated views by the same viewer inside the window are ignored.
+     *
+     * @param viewerId the viewer's user id, or null for views that cannot be deduplicated
+     */
+    public void recordView(UUID threadId, String viewerId) {
+        if (viewerId != null) {
+            if (!recentViewers.putIfAbsent(viewerId + ":" + threadId, Boolean.TRUE)) {
+                return;
+            }
+        }
+        pendingViews.merge(threadId, 1, Integer::sum);
+    }
+
+    /**
+     * Views recorded for the thread that have not been flushed yet.
+     */
+    public int pendingViews(UUID threadId) {
+        return pendingViews.getOrDefault(threadId, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${forum.views.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>();
+        List<Integer> deltas = new ArrayList<>();
+        for (UUID threadId : List.copyOf(pendingViews.keySet())) {
+            // remove() takes the count atomically; views recorded afterwards start a new entry
+            Integer delta = pendingViews.remove(threadId);
+            if (delta != null && delta > 0) {
+                ids.add(threadId);
+                deltas.add(delta);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        threadRepository.incrementViewCounts(ids.toArray(UUID[]::new), deltas.toArray(Integer[]::new))
+                .doOnSuccess(updated -> log.debug("Flushed view counts for {} threads", updated))
+                .doOnError(e -> {
+                    log.error("Failed to flush view counts for {} threads, re-queueing: {}", ids.size(), e.getMessage());
+                    for (int i = 0; i < ids.size(); i++) {
+                        pendingViews.merge(ids.get(i), deltas.get(i), Integer::sum);
+                    }
+                })
+                .onErrorComplete()
+                .block();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("View count flush on shutdown failed: {}", e.getMessage());
+        }
+    }
+}
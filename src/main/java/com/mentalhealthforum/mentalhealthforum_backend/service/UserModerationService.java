@@ -88,4 +88,9 @@ public interface UserModerationService {
     Mono<Integer> getUserActiveWarningCount(UUID userId, ViewerContext viewerContext);
 
     Mono<Boolean> hasActiveRestriction(UUID userId, RestrictionType restrictionType);
+
+    /**
+     * All active restriction types of a user from the per-user cache (one query on a miss).
+     */
+    Mono<RestrictionStatus> getRestrictionStatus(UUID userId);
 }
@@ -5,6 +5,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.WatchThreadResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -29,6 +30,7 @@ public interface WatchThreadService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     );
 
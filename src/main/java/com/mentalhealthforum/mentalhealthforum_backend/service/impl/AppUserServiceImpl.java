@@ -12,8 +12,10 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.userProfileAndIdentit
 import com.mentalhealthforum.mentalhealthforum_backend.dto.userProfileAndIdentity.user.UserResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.InternalRole;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.OnboardingStage;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SuggestionType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.VerificationType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.AppUserSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.*;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.AdminInvitationRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
@@ -24,6 +26,9 @@ import com.mentalhealthforum.mentalhealthforum_backend.service.UserResponseMappe
 import com.mentalhealthforum.mentalhealthforum_backend.repository.AppUserRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.service.AppUserService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.KeycloakAdminManager;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ListingCountResolver;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchResultCache;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchSuggestionIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatusCode;
@@ -70,6 +75,9 @@ public class AppUserServiceImpl implements AppUserService {
     private final AdminInvitationService adminInvitationService;
     private final AdminInvitationRepository adminInvitationRepository;
     private final VerificationTokenRepository verificationTokenRepository;
+    private final ListingCountResolver listingCountResolver;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final SearchResultCache searchResultCache;
     private final WebClient webClient;
     private final  String userInfoUri;
 
@@ -85,7 +93,10 @@ public class AppUserServiceImpl implements AppUserService {
             UserConnectRepository userConnectRepository,
             AdminInvitationService adminInvitationService,
             AdminInvitationRepository adminInvitationRepository,
-            VerificationTokenRepository verificationTokenRepository) {
+            VerificationTokenRepository verificationTokenRepository,
+            ListingCountResolver listingCountResolver,
+            SearchSuggestionIndex searchSuggestionIndex,
+            SearchResultCache searchResultCache) {
         this.appUserRepository = appUserRepository;
         this.adminManager = adminManager;
         this.novuServiceImpl = novuServiceImpl;
@@ -94,6 +105,9 @@ public class AppUserServiceImpl implements AppUserService {
         this.adminInvitationService = adminInvitationService;
         this.adminInvitationRepository = adminInvitationRepository;
         this.verificationTokenRepository = verificationTokenRepository;
+        this.listingCountResolver = listingCountResolver;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.searchResultCache = searchResultCache;
 
         String authServerUrl = keycloakProperties.getAuthServerUrl();
         String realm = keycloakProperties.getRealm();
@@ -319,6 +333,7 @@ public class AppUserServiceImpl implements AppUserService {
      * @param search           Optional search query; blank values ignored
      * @param sortBy           Field to sort by; falls back to a safe default when invalid
      * @param sortDirection    Sort direction ("asc" or "desc"); defaults by field when null
+     * @param countStrategy    How the total is computed; HAS_MORE skips the count query entirely
      * @param viewerContext    Authenticated viewer context used to determine field visibility
      * @return Mono of paginated user responses with privacy rules applied
      */
@@ -332,6 +347,7 @@ public class AppUserServiceImpl implements AppUserService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext){
 
         if (page < 0 || size <= 0) {
@@ -354,36 +370,54 @@ public class AppUserServiceImpl implements AppUserService {
                 currentUserId, applyCurrentUserFirst,
                 isConnected,
                 effectiveSearch,
-                sortByField.getValue(), normalizedDirection, size, offset
+                sortByField.getValue(), normalizedDirection,
+                listingCountResolver.fetchSize(countStrategy, size), offset
         );
 
-        Mono<Long> totalCount = appUserRepository.countAll(
-                isActive, role, effectiveGroups,
-                currentUserId,
-                isConnected,
-                effectiveSearch
-        );
+        Mono<Long> totalCount = listingCountResolver.resolve(
+                countStrategy,
+                "users:" + Arrays.asList(isActive, role, effectiveGroups != null ? Arrays.asList(effectiveGroups) : null,
+                        currentUserId, isConnected, effectiveSearch),
+                () -> appUserRepository.countAll(
+                        isActive, role, effectiveGroups,
+                        currentUserId,
+                        isConnected,
+                        effectiveSearch),
+                null);
 
         return Mono.zip(appUsersFlux.collectList(), totalCount)
                 .flatMap(tuple -> {
-                    List<AppUserEntity> appUsers = tuple.getT1();
+                    List<AppUserEntity> fetched = tuple.getT1();
                     long total = tuple.getT2();
 
-                    if(appUsers.isEmpty()){
+                    if(fetched.isEmpty()){
                         return Mono.just(new PaginatedResponse<>(List.of(), page, size, total));
                     }
 
+                    boolean hasNext = fetched.size() > size;
+                    List<AppUserEntity> appUsers = hasNext ? fetched.subList(0, size) : fetched;
+
                     return enrichAppUsersWithConnectionStatus(appUsers, currentUserId, viewerContext)
                             .map(content -> {
                                 FilterMetadata<Object> filters = FilterMetadata.builder()
                                         .sortOptions(getUserSortOptions())
                                         .build();
-                                return new PaginatedResponse<>(content, page, size, total, filters);
+                                return countStrategy == CountStrategy.HAS_MORE
+                                        ? new PaginatedResponse<>(content, page, size, hasNext, filters)
+                                        : new PaginatedResponse<>(content, page, size, total, filters);
                             });
 
                 });
     }
 
+    /**
+     * Display name, bio and profile visibility feed both search suggestions and global search.
+     */
+    private void reindexProfile(AppUserEntity appUser) {
+        searchSuggestionIndex.indexProfile(appUser);
+        searchResultCache.contentChanged();
+    }
+
     private AppUserSortField validateAndNormalizeSortBy(String sortBy){
         return AppUserSortField.fromString(sortBy);
     }
@@ -443,7 +477,9 @@ public class AppUserServiceImpl implements AppUserService {
                                 appUser::setProfileVisibility);
 
                     // --- Persist only if any changes ---
-                    return localNeedsUpdate ? appUserRepository.save(appUser) : Mono.just(appUser);
+                    return localNeedsUpdate
+                            ? appUserRepository.save(appUser).doOnNext(this::reindexProfile)
+                            : Mono.just(appUser);
                 })
                 .flatMap(savedUser ->
                         novuServiceImpl.upsertSubscriber(savedUser)
@@ -470,7 +506,11 @@ public class AppUserServiceImpl implements AppUserService {
         }
         return appUserRepository
                 .findAppUserByKeycloakId(userId)
-                .flatMap(appUserRepository::delete)
+                .flatMap(appUser -> appUserRepository.delete(appUser).thenReturn(appUser))
+                .doOnNext(appUser -> {
+                    searchSuggestionIndex.remove(SuggestionType.PROFILE, appUser.getId());
+                    searchResultCache.contentChanged();
+                })
                 .then();
     }
 
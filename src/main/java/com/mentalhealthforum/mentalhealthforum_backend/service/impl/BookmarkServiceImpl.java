@@ -15,6 +15,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.enums.ErrorCode;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.BookmarkSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
@@ -25,6 +26,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.repository.ThreadReposito
 import com.mentalhealthforum.mentalhealthforum_backend.repository.ThreadBookmarkRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.service.AppUserService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.BookmarkService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ListingCountResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
@@ -43,6 +45,7 @@ public class BookmarkServiceImpl implements BookmarkService {
     private final CategoryRepository categoryRepository;
     private final AppUserRepository appUserRepository;
     private final AppUserService appUserService;
+    private final ListingCountResolver listingCountResolver;
 
     public BookmarkServiceImpl(
             TransactionalOperator transactionalOperator,
@@ -50,13 +53,15 @@ public class BookmarkServiceImpl implements BookmarkService {
             ThreadRepository threadRepository,
             CategoryRepository categoryRepository,
             AppUserRepository appUserRepository,
-            AppUserService appUserService) {
+            AppUserService appUserService,
+            ListingCountResolver listingCountResolver) {
         this.transactionalOperator = transactionalOperator;
         this.bookmarkRepository = bookmarkRepository;
         this.threadRepository = threadRepository;
         this.categoryRepository = categoryRepository;
         this.appUserRepository = appUserRepository;
         this.appUserService = appUserService;
+        this.listingCountResolver = listingCountResolver;
     }
 
     @Override
@@ -93,6 +98,7 @@ public class BookmarkServiceImpl implements BookmarkService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     ){
 
@@ -115,33 +121,46 @@ public class BookmarkServiceImpl implements BookmarkService {
         String effectiveSortDirection = sortByField.determineSortDirection(sortDirection);
 
 
+        Mono<Long> totalCount = listingCountResolver.resolve(
+                countStrategy,
+                "bookmarks:" + Arrays.asList(viewerId, categoryId, creatorId, effectiveThreadType,
+                        effectiveThreadStatus, hasContentWarning, effectiveSearch),
+                () -> bookmarkRepository.countBookmarksWithFilters(
+                        viewerId,
+                        isAdmin, isModeratorOrAdmin, isVerified,
+                        categoryId, creatorId,
+                        effectiveThreadType,
+                        effectiveThreadStatus, hasContentWarning, effectiveSearch),
+                null);
+
         return bookmarkRepository.findBookmarkedThreadsPaginated(
                         viewerId,
                         isAdmin, isModeratorOrAdmin, isVerified,
                         categoryId, creatorId,
                         effectiveThreadType,
                         effectiveThreadStatus, hasContentWarning,
-                        effectiveSearch, sortByField.getValue(), effectiveSortDirection, size, offset)
+                        effectiveSearch, sortByField.getValue(), effectiveSortDirection,
+                        listingCountResolver.fetchSize(countStrategy, size), offset)
                 .collectList()
-                .flatMap(records -> {
-                    if(records.isEmpty()){
+                .flatMap(fetched -> {
+                    if(fetched.isEmpty()){
                         return Mono.just(new PaginatedResponse<>(List.of(), page, size, 0L));
                     }
 
+                    boolean hasNext = fetched.size() > size;
+                    List<BookmarkedThreadRecord> records = hasNext ? fetched.subList(0, size) : fetched;
+
                     return enrichBookmarksWithBatchData(records)
-                            .zipWith(bookmarkRepository.countBookmarksWithFilters(
-                                    viewerId,
-                                    isAdmin, isModeratorOrAdmin, isVerified,
-                                    categoryId, creatorId,
-                                    effectiveThreadType,
-                                    effectiveThreadStatus, hasContentWarning, effectiveSearch))
+                            .zipWith(totalCount)
                             .map(tuple -> {
                                 EnrichedBookmarkData enrichedBookmarkData = tuple.getT1();
-                                long totalCount = tuple.getT2();
+                                long total = tuple.getT2();
 
                                 FilterMetadata<BookmarkFilterDto> filters = buildBookmarkFilters(enrichedBookmarkData);
 
-                                return new PaginatedResponse<>(enrichedBookmarkData.responses, page, size, totalCount, filters);
+                                return countStrategy == CountStrategy.HAS_MORE
+                                        ? new PaginatedResponse<>(enrichedBookmarkData.responses, page, size, hasNext, filters)
+                                        : new PaginatedResponse<>(enrichedBookmarkData.responses, page, size, total, filters);
                             });
                 });
 
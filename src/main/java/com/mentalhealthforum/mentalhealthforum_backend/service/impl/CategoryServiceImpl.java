@@ -11,6 +11,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.SortOption;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ErrorCode;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ModerationAction;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SuggestionType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CategorySortField;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
@@ -19,6 +20,8 @@ import com.mentalhealthforum.mentalhealthforum_backend.repository.*;
 import com.mentalhealthforum.mentalhealthforum_backend.service.CategoryService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.CategoryTagService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.FocusCategoryService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchResultCache;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchSuggestionIndex;
 import com.mentalhealthforum.mentalhealthforum_backend.utils.SlugsUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +49,10 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryTagAssignmentRepository categoryTagAssignmentRepository;
     private final FocusCategoryRepository focusCategoryRepository;
     private final FocusCategoryService focusCategoryService;
-
+    private final CategoryVisibilityCache categoryVisibilityCache;
+    private final CategoryTreeCache categoryTreeCache;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final SearchResultCache searchResultCache;
 
     public CategoryServiceImpl(TransactionalOperator transactionalOperator,
                                CategoryRepository categoryRepository,
@@ -55,7 +61,11 @@ public class CategoryServiceImpl implements CategoryService {
                                CategoryTagRepository categoryTagRepository,
                                CategoryTagAssignmentRepository categoryTagAssignmentRepository,
                                FocusCategoryRepository focusCategoryRepository,
-                               FocusCategoryService focusCategoryService) {
+                               FocusCategoryService focusCategoryService,
+                               CategoryVisibilityCache categoryVisibilityCache,
+                               CategoryTreeCache categoryTreeCache,
+                               SearchSuggestionIndex searchSuggestionIndex,
+                               SearchResultCache searchResultCache) {
         this.transactionalOperator = transactionalOperator;
         this.categoryRepository = categoryRepository;
         this.threadRepository = threadRepository;
@@ -64,6 +74,10 @@ public class CategoryServiceImpl implements CategoryService {
         this.categoryTagAssignmentRepository = categoryTagAssignmentRepository;
         this.focusCategoryRepository = focusCategoryRepository;
         this.focusCategoryService = focusCategoryService;
+        this.categoryVisibilityCache = categoryVisibilityCache;
+        this.categoryTreeCache = categoryTreeCache;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.searchResultCache = searchResultCache;
     }
 
     // ==================== SLUG GENERATION ====================
@@ -111,7 +125,9 @@ public class CategoryServiceImpl implements CategoryService {
                 .flatMap(savedCategory -> categoryTagService.addTagsToCategory(savedCategory, request.getTagIds(), viewerContext)
                         .thenReturn(savedCategory)
                 )
-                .as(transactionalOperator::transactional);
+                .flatMap(this::refreshSearchDocument)
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(category -> invalidateCategoryCaches());
 
     }
 
@@ -141,7 +157,8 @@ public class CategoryServiceImpl implements CategoryService {
                                 });
                     }
                     return updateCategoryFields(existingCategory, request, viewerContext);
-                });
+                })
+                .doOnSuccess(category -> invalidateCategoryCaches());
     }
 
     @Override
@@ -165,7 +182,8 @@ public class CategoryServiceImpl implements CategoryService {
                     category.setIsActive(false);
                     return categoryRepository.save(category).then();
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> invalidateCategoryCaches());
     }
 
     @Override
@@ -211,7 +229,8 @@ public class CategoryServiceImpl implements CategoryService {
                     category.setIsActive(true);
                     return categoryRepository.save(category);
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(category -> invalidateCategoryCaches());
     }
 
     @Override
@@ -255,7 +274,8 @@ public class CategoryServiceImpl implements CategoryService {
                                 // add similar checks here to prevent orphaned records.
                             });
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> invalidateCategoryCaches());
     }
 
     @Override
@@ -349,39 +369,98 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public Flux<CategoryHierarchyDto> getCategoryHierarchy(ViewerContext viewerContext) {
-        // Public - no permission check needed
-        return categoryRepository.findRootCategories()
-                .flatMap(root -> Mono.zip(
-                        enrichSingleCategoryWithData(root, viewerContext),
-                        categoryRepository.findChildCategories(root.getId())
-                                .flatMap(category -> enrichSingleCategoryWithData(category, viewerContext))
-                                .collectList(),
-                        categoryTagService.getTagsForCategory(root.getId())
-                                .collectList()
-                ))
-                .map(tuple -> new CategoryHierarchyDto(
-                        tuple.getT1(),
-                        tuple.getT2(),
-                        tuple.getT3()
-                ));
+        // Public - no permission check needed. Served from the category tree snapshot.
+        return categoryTreeCache.snapshot()
+                .flatMapMany(tree -> findFocusedCategoryIds(tree.categoryIds(), viewerContext)
+                        .flatMapIterable(focusIds -> tree.roots().stream()
+                                .map(root -> mapHierarchyNode(root, focusIds))
+                                .toList()));
     }
 
     @Override
     public Flux<CategoryResponse> getRootCategories(ViewerContext viewerContext) {
         // Public - no permission check needed
-        return categoryRepository.findRootCategories()
-                .flatMap(category -> enrichSingleCategoryWithData(category, viewerContext));
+        return categoryTreeCache.snapshot()
+                .flatMapMany(tree -> mapTreeNodes(tree.roots(), viewerContext));
     }
 
     @Override
     public Flux<CategoryResponse> getChildCategories(UUID parentId, ViewerContext viewerContext) {
         // Public - no permission check needed
-        return categoryRepository.findChildCategories(parentId)
-                .flatMap(category -> enrichSingleCategoryWithData(category, viewerContext));
+        return categoryTreeCache.snapshot()
+                .flatMapMany(tree -> {
+                    CategoryTreeCache.Node parent = tree.byId().get(parentId);
+                    return parent == null
+                            ? Flux.empty()
+                            : mapTreeNodes(parent.children(), viewerContext);
+                });
     }
 
     // ==================== PRIVATE HELPERS ====================
 
+    /**
+     * Drops the cached per-tier visible category sets and the category tree snapshot after any
+     * category write (activity, view access, parent, sort order or tags can have changed), and
+     * refreshes the category names offered as search suggestions and the cached search rankings.
+     */
+    private void invalidateCategoryCaches() {
+        categoryVisibilityCache.invalidate();
+        categoryTreeCache.invalidate();
+        searchSuggestionIndex.reload(SuggestionType.CATEGORY);
+        searchResultCache.contentChanged();
+    }
+
+    /**
+     * Rebuilds the category's stored search document once its name, description and tags are saved.
+     */
+    private Mono<CategoryEntity> refreshSearchDocument(CategoryEntity category) {
+        return categoryRepository.refreshSearchDocuments(new UUID[]{category.getId()})
+                .thenReturn(category);
+    }
+
+    private Mono<Set<UUID>> findFocusedCategoryIds(List<UUID> categoryIds, ViewerContext viewerContext) {
+        if (categoryIds.isEmpty() || viewerContext == null || viewerContext.getUserId() == null) {
+            return Mono.just(Set.of());
+        }
+        return focusCategoryRepository.findFocusCategoryIds(UUID.fromString(viewerContext.getUserId()), categoryIds)
+                .collect(Collectors.toSet());
+    }
+
+    private Flux<CategoryResponse> mapTreeNodes(List<CategoryTreeCache.Node> nodes, ViewerContext viewerContext) {
+        List<UUID> categoryIds = nodes.stream()
+                .map(node -> node.category().getId())
+                .toList();
+
+        return findFocusedCategoryIds(categoryIds, viewerContext)
+                .flatMapIterable(focusIds -> nodes.stream()
+                        .map(node -> mapTreeNodeResponse(node, focusIds))
+                        .toList());
+    }
+
+    private CategoryHierarchyDto mapHierarchyNode(CategoryTreeCache.Node node, Set<UUID> focusIds) {
+        return new CategoryHierarchyDto(
+                mapTreeNodeResponse(node, focusIds),
+                node.children().stream()
+                        .map(child -> mapTreeNodeResponse(child, focusIds))
+                        .toList(),
+                node.tags().stream()
+                        .map(this::mapToCategoryTag)
+                        .toList(),
+                node.children().stream()
+                        .map(child -> mapHierarchyNode(child, focusIds))
+                        .toList()
+        );
+    }
+
+    private CategoryResponse mapTreeNodeResponse(CategoryTreeCache.Node node, Set<UUID> focusIds) {
+        return mapCategoryResponse(
+                node.category(),
+                node.tags().stream().map(this::mapToCategoryTag).toList(),
+                focusIds.contains(node.category().getId()),
+                node.threadCount()
+        );
+    }
+
     private Mono<Void> validateParentCategory(UUID parentCategoryId) {
         if (parentCategoryId == null) {
             return Mono.empty();
@@ -449,10 +528,12 @@ public class CategoryServiceImpl implements CategoryService {
 
         if (request.getTagIds() != null && viewerContext != null) {
             return categoryTagService.syncCategoryTags(existing.getId(), request.getTagIds(), viewerContext)
-                    .then(categoryRepository.save(existing));
+                    .then(categoryRepository.save(existing))
+                    .flatMap(this::refreshSearchDocument);
         }
 
-        return categoryRepository.save(existing);
+        return categoryRepository.save(existing)
+                .flatMap(this::refreshSearchDocument);
 
     }
 
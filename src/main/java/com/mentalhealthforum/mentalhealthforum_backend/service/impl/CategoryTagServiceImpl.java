@@ -8,6 +8,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.SortOption;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ErrorCode;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ModerationAction;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SuggestionType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.TagSortField;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
@@ -18,9 +19,12 @@ import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.AppUserRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.CategoryTagAssignmentRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.CategoryTagRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.CategoryTreeCache;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.CategoryRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.service.AppUserService;
 import com.mentalhealthforum.mentalhealthforum_backend.service.CategoryTagService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchResultCache;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchSuggestionIndex;
 import com.mentalhealthforum.mentalhealthforum_backend.utils.NormalizeUtils;
 import com.mentalhealthforum.mentalhealthforum_backend.utils.SlugsUtil;
 import org.slf4j.Logger;
@@ -50,6 +54,9 @@ public class CategoryTagServiceImpl implements CategoryTagService {
     private final CategoryRepository categoryRepository;
     private final AppUserRepository appUserRepository;
     private final AppUserService appUserService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final SearchResultCache searchResultCache;
 
     public CategoryTagServiceImpl(
             TransactionalOperator transactionalOperator,
@@ -57,13 +64,19 @@ public class CategoryTagServiceImpl implements CategoryTagService {
             CategoryTagAssignmentRepository categoryTagAssignmentRepository,
             CategoryRepository categoryRepository,
             AppUserRepository appUserRepository,
-            AppUserService appUserService) {
+            AppUserService appUserService,
+            CategoryTreeCache categoryTreeCache,
+            SearchSuggestionIndex searchSuggestionIndex,
+            SearchResultCache searchResultCache) {
         this.transactionalOperator = transactionalOperator;
         this.categoryTagRepository = categoryTagRepository;
         this.categoryTagAssignmentRepository = categoryTagAssignmentRepository;
         this.categoryRepository = categoryRepository;
         this.appUserRepository = appUserRepository;
         this.appUserService = appUserService;
+        this.categoryTreeCache = categoryTreeCache;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.searchResultCache = searchResultCache;
     }
 
     @Override
@@ -108,8 +121,12 @@ public class CategoryTagServiceImpl implements CategoryTagService {
 
                             return updateTagEntity(existingTag, existingTag.getName(), existingTag.getSlug(), request.description());
                         }))
+                .flatMap(tag -> categoryIdsOfTag(tag.getId())
+                        .flatMap(this::refreshSearchDocuments)
+                        .thenReturn(tag))
                 .flatMap(this::enrichSingleTagWithData)
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(tag -> invalidateTagCaches());
     }
 
     @Override
@@ -134,9 +151,13 @@ public class CategoryTagServiceImpl implements CategoryTagService {
                 .flatMap(tagId -> categoryTagRepository.findById(tagId)
                         .switchIfEmpty(Mono.error(new ApiException("Tag not found", ErrorCode.RESOURCE_NOT_FOUND)))
                 )
-                .flatMap(categoryTagRepository::delete)
+                // Tag names are part of the categories' search documents; rebuild them once the tag is gone
+                .flatMap(tag -> categoryIdsOfTag(tag.getId())
+                        .flatMap(categoryIds -> categoryTagRepository.delete(tag)
+                                .then(refreshSearchDocuments(categoryIds))))
                 .then()
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> invalidateTagCaches());
     }
 
     @Override
@@ -217,8 +238,10 @@ public class CategoryTagServiceImpl implements CategoryTagService {
                 .then(checkNotAlreadyAssigned(categoryId, tagId))
                 .then(validateTagLimit(categoryId))
                 .then(createAssignment(categoryId, tagId, userId))
+                .flatMap(assignment -> refreshSearchDocuments(List.of(categoryId)).thenReturn(assignment))
                 .flatMap(this::mapAssignmentToResponse)
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(assignment -> invalidateTagCaches());
     }
 
     @Override
@@ -249,9 +272,11 @@ public class CategoryTagServiceImpl implements CategoryTagService {
                             .then(checkNotAlreadyAssigned(categoryId, tagId))
                             .then(validateTagLimit(categoryId))
                             .then(createAssignment(categoryId, tagId, userId))
+                            .flatMap(assignment -> refreshSearchDocuments(List.of(categoryId)).thenReturn(assignment))
                             .flatMap(this::mapAssignmentToResponse);
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnComplete(this::invalidateTagCaches);
     }
 
     @Override
@@ -268,7 +293,9 @@ public class CategoryTagServiceImpl implements CategoryTagService {
                         validateTagExists(tagId),
                         validateAssignmentExists(categoryId, tagId)
                 ).then(categoryTagAssignmentRepository.deleteByCategoryIdAndTagId(categoryId, tagId))
-                .as(transactionalOperator::transactional);
+                .then(refreshSearchDocuments(List.of(categoryId)))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> invalidateTagCaches());
     }
 
 
@@ -301,17 +328,21 @@ public class CategoryTagServiceImpl implements CategoryTagService {
                             .flatMap(this::mapAssignmentToResponse)
                             .flatMap(response -> {
                                 return categoryTagAssignmentRepository.deleteByCategoryIdAndTagId(categoryId, tagId)
+                                        .then(refreshSearchDocuments(List.of(categoryId)))
                                         .then(Mono.just(response));
                             });
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnComplete(this::invalidateTagCaches);
     }
 
     @Override
     public Mono<Void> deleteAllTagAssignmentsForCategory(UUID categoryId, ViewerContext viewerContext){
         return ModerationAction.CATEGORY_TAG_UNASSIGNED.checkPermission(viewerContext)
                 .then(categoryTagAssignmentRepository.deleteByCategoryId(categoryId))
-                .as(transactionalOperator::transactional);
+                .then(refreshSearchDocuments(List.of(categoryId)))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> invalidateTagCaches());
     }
 
     @Override
@@ -369,6 +400,32 @@ public class CategoryTagServiceImpl implements CategoryTagService {
 
     // ==================== PRIVATE HELPERS ====================
 
+    /**
+     * Tag names and assignments feed the category tree snapshot, the tag search suggestions and the
+     * category ranking in global search.
+     */
+    private void invalidateTagCaches() {
+        categoryTreeCache.invalidate();
+        searchSuggestionIndex.reload(SuggestionType.TAG);
+        searchResultCache.contentChanged();
+    }
+
+    private Mono<List<UUID>> categoryIdsOfTag(UUID tagId) {
+        return categoryTagAssignmentRepository.findByTagId(tagId)
+                .map(CategoryTagAssignmentEntity::getCategoryId)
+                .collectList();
+    }
+
+    /**
+     * Rebuilds the stored search documents (name, description, tag names) of the given categories.
+     */
+    private Mono<Void> refreshSearchDocuments(List<UUID> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return categoryRepository.refreshSearchDocuments(categoryIds.toArray(UUID[]::new)).then();
+    }
+
     private Mono<ValidatedTagData> validateAndNormalizeTag(String name){
         // Normalize tag name
         String normalizedName = NormalizeUtils.normalizeTag(name);
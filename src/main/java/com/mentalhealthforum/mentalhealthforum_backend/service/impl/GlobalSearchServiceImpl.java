@@ -1,37 +1,180 @@
 package com.mentalhealthforum.mentalhealthforum_backend.service.impl;
 
+import com.mentalhealthforum.mentalhealthforum_backend.config.SearchProperties;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchHit;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchResult;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchSlice;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.GlobalSearchStreamEvent;
+import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.SearchSuggestion;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SearchEntityType;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.SearchPlan;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.ViewerTier;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.CategoryVisibilityCache;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.GlobalSearchRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.GlobalSearchRepository.SearchViewer;
 import com.mentalhealthforum.mentalhealthforum_backend.service.GlobalSearchService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchQueryPlanner;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchResultCache;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchSuggestionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class GlobalSearchServiceImpl implements GlobalSearchService {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalSearchServiceImpl.class);
 
+    // Same orderings the branch queries use, so the per-branch lists can be merged without re-sorting
+    private static final Comparator<GlobalSearchHit> BY_RELEVANCE = Comparator
+            .comparing(GlobalSearchHit::searchScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(GlobalSearchHit::entityId);
+
+    private static final Comparator<GlobalSearchHit> BY_RECENCY = Comparator
+            .comparing(GlobalSearchHit::lastActivityAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(GlobalSearchHit::entityId);
+
+    private static final int MIN_SUGGEST_PREFIX_LENGTH = 2;
+    private static final int MAX_SUGGESTIONS = 10;
+
     private final GlobalSearchRepository globalSearchRepository;
+    private final SearchProperties searchProperties;
+    private final SearchResultCache searchResultCache;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final CategoryVisibilityCache categoryVisibilityCache;
+    private final SearchQueryPlanner searchQueryPlanner;
+    private final Map<SearchPlan, Timer> latencyByPlan = new EnumMap<>(SearchPlan.class);
 
-    public GlobalSearchServiceImpl(GlobalSearchRepository globalSearchRepository) {
+    public GlobalSearchServiceImpl(
+            GlobalSearchRepository globalSearchRepository,
+            SearchProperties searchProperties,
+            SearchResultCache searchResultCache,
+            SearchSuggestionIndex searchSuggestionIndex,
+            CategoryVisibilityCache categoryVisibilityCache,
+            SearchQueryPlanner searchQueryPlanner,
+            MeterRegistry meterRegistry) {
         this.globalSearchRepository = globalSearchRepository;
+        this.searchProperties = searchProperties;
+        this.searchResultCache = searchResultCache;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.categoryVisibilityCache = categoryVisibilityCache;
+        this.searchQueryPlanner = searchQueryPlanner;
+        for (SearchPlan plan : SearchPlan.values()) {
+            latencyByPlan.put(plan, Timer.builder("forum.search.latency")
+                    .description("Global search latency from planning to the last hydrated result")
+                    .tag("plan", plan.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
     }
 
+    /**
+     * Ranks the page (see {@link #rankPage}) and hydrates it; the returned {@link GlobalSearchSlice}
+     * is flagged partial when an entity type timed out or the plan restricted posts.
+     */
     @Override
     public Mono<Slice<GlobalSearchResult>> searchRegistry(String query, String sortBy, int page, int size, ViewerContext viewerContext){
         if(query == null || query.isBlank()){
             return Mono.just(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 20), false));
         }
 
+        return rankPage(query, sortBy, page, size, viewerContext)
+                .flatMap(rankedPage -> globalSearchRepository.hydrate(rankedPage.hits(), rankedPage.rawQuery())
+                        .map(content -> (Slice<GlobalSearchResult>) new GlobalSearchSlice<>(
+                                content, rankedPage.pageable(), rankedPage.hasNext(), rankedPage.partial()))
+                        .doOnSuccess(slice -> recordLatency(rankedPage)));
+    }
+
+    /**
+     * Same ranking as {@link #searchRegistry}, but each result is emitted as soon as its preview row
+     * arrives from the database, followed by one END event carrying hasNext and partial.
+     */
+    @Override
+    public Flux<GlobalSearchStreamEvent> streamSearch(String query, String sortBy, int page, int size, ViewerContext viewerContext){
+        if(query == null || query.isBlank()){
+            return Flux.just(GlobalSearchStreamEvent.end(false, false));
+        }
+
+        return rankPage(query, sortBy, page, size, viewerContext)
+                .flatMapMany(rankedPage -> globalSearchRepository.hydrateStream(rankedPage.hits(), rankedPage.rawQuery())
+                        .map(GlobalSearchStreamEvent::result)
+                        .concatWith(Mono.fromSupplier(() ->
+                                GlobalSearchStreamEvent.end(rankedPage.hasNext(), rankedPage.partial())))
+                        .doOnComplete(() -> recordLatency(rankedPage)));
+    }
+
+    /**
+     * Search-as-you-type: served from the in-memory prefix index, never from the full-text path.
+     */
+    @Override
+    public Mono<List<SearchSuggestion>> suggest(String query, int limit, ViewerContext viewerContext) {
+        if (query == null || query.trim().length() < MIN_SUGGEST_PREFIX_LENGTH) {
+            return Mono.just(List.of());
+        }
+
+        int validatedLimit = Math.clamp(limit, 1, MAX_SUGGESTIONS);
+        ViewerTier tier = SearchViewer.of(viewerContext).tier();
+
+        return categoryVisibilityCache.visibleCategoryIds(tier)
+                .map(visibleIds -> searchSuggestionIndex.suggest(query, validatedLimit, tier, Set.of(visibleIds)));
+    }
+
+    // ==================== RANKING ====================
+
+    /**
+     * Hits of the requested page, in rank order, before hydration.
+     */
+    private record RankedPage(
+            List<GlobalSearchHit> hits,
+            Pageable pageable,
+            boolean hasNext,
+            boolean partial,
+            String rawQuery,
+            SearchPlan plan,
+            long startedAtNanos) {}
+
+    private void recordLatency(RankedPage rankedPage) {
+        recordLatency(rankedPage.plan(), rankedPage.startedAtNanos());
+    }
+
+    private void recordLatency(SearchPlan plan, long startedAtNanos) {
+        latencyByPlan.get(plan).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs one query per entity type in parallel, each bounded to the first {@code offset + size + 1}
+     * hits, and k-way merges them in Java. A branch that exceeds {@code forum.search.branch-timeout}
+     * is left out and the page is flagged partial.
+     *
+     * <p>{@link SearchQueryPlanner} runs first: broad queries get the posts branch bounded to recent
+     * posts or skipped, and the page is then flagged partial too.
+     *
+     * <p>The merged ranking of the tier-wide branches is cached in {@link SearchResultCache}; PRIVATE
+     * profiles reachable only through the viewer's own connections are searched on every request and
+     * merged in before paging.
+     */
+    private Mono<RankedPage> rankPage(String query, String sortBy, int page, int size, ViewerContext viewerContext) {
+        long startedAtNanos = System.nanoTime();
         if (page < 0 || size <= 0) {
             log.error("Invalid pagination parameters: page={}, size={}", page, size);
             throw new InvalidPaginationException();
@@ -40,6 +183,139 @@ public class GlobalSearchServiceImpl implements GlobalSearchService {
         // Validate pagination inputs to prevent memory allocation attacks
        int validatedSize = Math.clamp(size, 1, 50);
 
-        return globalSearchRepository.executeLiveSearch(query.trim(), sortBy, PageRequest.of(page, validatedSize), viewerContext);
+        String rawQuery = query.trim();
+        Pageable pageable = PageRequest.of(page, validatedSize);
+        long offset = pageable.getOffset();
+        int branchLimit = Math.toIntExact(offset + validatedSize + 1); // Fetch +1 to determine hasNext()
+
+        Comparator<GlobalSearchHit> order = "recent".equalsIgnoreCase(sortBy) ? BY_RECENCY : BY_RELEVANCE;
+        SearchViewer viewer = SearchViewer.of(viewerContext);
+
+        return searchQueryPlanner.plan(rawQuery).flatMap(plan -> {
+            SearchResultCache.Key cacheKey = searchResultCache.keyFor(rawQuery, sortBy, page, validatedSize, viewer.tier(), plan);
+            return rankPlannedPage(cacheKey, rawQuery, sortBy, pageable, branchLimit, viewer, plan, order, startedAtNanos);
+        });
+    }
+
+    private Mono<RankedPage> rankPlannedPage(
+            SearchResultCache.Key cacheKey,
+            String rawQuery,
+            String sortBy,
+            Pageable pageable,
+            int branchLimit,
+            SearchViewer viewer,
+            SearchPlan plan,
+            Comparator<GlobalSearchHit> order,
+            long startedAtNanos) {
+
+        long offset = pageable.getOffset();
+        int validatedSize = pageable.getPageSize();
+
+        Mono<RankedHits> tierHits = rankTierHits(cacheKey, rawQuery, sortBy, branchLimit, viewer.tier(), plan, order);
+        Mono<RankedHits> personalHits = viewer.hasPersonalProfileScope()
+                ? withinBudget("private profile",
+                        globalSearchRepository.findPrivateProfileHits(rawQuery, sortBy, branchLimit, viewer.viewerId()),
+                        rawQuery, order)
+                : Mono.just(RankedHits.NONE);
+
+        return Mono.zip(tierHits, personalHits)
+                .flatMap(tuple -> {
+                    boolean partial = tuple.getT1().partial() || tuple.getT2().partial() || plan.restrictsPosts();
+
+                    return mergeRanked(order, List.of(tuple.getT1().hits(), tuple.getT2().hits()))
+                            .skip(offset)
+                            .take(validatedSize + 1L)
+                            .collectList()
+                            .map(hits -> {
+                                boolean hasNext = hits.size() > validatedSize;
+                                List<GlobalSearchHit> pageHits = hasNext ? hits.subList(0, validatedSize) : hits;
+                                return new RankedPage(pageHits, pageable, hasNext, partial, rawQuery, plan, startedAtNanos);
+                            });
+                });
+    }
+
+    /**
+     * Hits of a ranked branch list, and whether a branch was dropped for exceeding its time budget.
+     */
+    private record RankedHits(List<GlobalSearchHit> hits, boolean partial) {
+        static final RankedHits NONE = new RankedHits(List.of(), false);
+    }
+
+    /**
+     * Merged top-{@code limit} of the tier-wide branches, from the cache when possible. Partial
+     * rankings (a branch timed out) are never cached; rankings restricted by the plan are, under
+     * the plan's key.
+     */
+    private Mono<RankedHits> rankTierHits(
+            SearchResultCache.Key cacheKey,
+            String rawQuery,
+            String sortBy,
+            int limit,
+            ViewerTier tier,
+            SearchPlan plan,
+            Comparator<GlobalSearchHit> order) {
+
+        List<GlobalSearchHit> cached = searchResultCache.get(cacheKey);
+        if (cached != null) {
+            return Mono.just(new RankedHits(cached, false));
+        }
+
+        return Flux.fromArray(SearchEntityType.values())
+                .filter(entityType -> entityType != SearchEntityType.POST || plan != SearchPlan.SKIP_POSTS)
+                .flatMap(entityType -> withinBudget(entityType.name(),
+                        branchHits(entityType, rawQuery, sortBy, limit, tier, plan),
+                        rawQuery, order))
+                .collectList()
+                .flatMap(branches -> mergeRanked(order, branches.stream().map(RankedHits::hits).toList())
+                        .take(limit)
+                        .collectList()
+                        .map(ranked -> {
+                            boolean partial = branches.stream().anyMatch(RankedHits::partial);
+                            if (!partial) {
+                                searchResultCache.put(cacheKey, ranked);
+                            }
+                            return new RankedHits(ranked, partial);
+                        }));
+    }
+
+    private Flux<GlobalSearchHit> branchHits(
+            SearchEntityType entityType,
+            String rawQuery,
+            String sortBy,
+            int limit,
+            ViewerTier tier,
+            SearchPlan plan) {
+
+        if (entityType == SearchEntityType.POST && plan == SearchPlan.RECENT_POSTS) {
+            Instant createdSince = Instant.now().minus(searchProperties.getPlanner().getRecentPostsWindow());
+            return globalSearchRepository.findRecentPostHits(rawQuery, sortBy, limit, tier, createdSince);
+        }
+        return globalSearchRepository.findHits(entityType, rawQuery, sortBy, limit, tier);
+    }
+
+    private Mono<RankedHits> withinBudget(
+            String branchName,
+            Flux<GlobalSearchHit> branchHits,
+            String rawQuery,
+            Comparator<GlobalSearchHit> order) {
+
+        // Collected per branch so the timeout bounds the whole query, then re-sorted with the merge
+        // comparator in case the database collation orders ties differently
+        return branchHits
+                .collectSortedList(order)
+                .map(hits -> new RankedHits(hits, false))
+                .timeout(searchProperties.getBranchTimeout())
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("Search {} branch timed out after {} for query '{}', returning partial results",
+                            branchName, searchProperties.getBranchTimeout(), rawQuery);
+                    return Mono.just(new RankedHits(List.of(), true));
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<GlobalSearchHit> mergeRanked(Comparator<GlobalSearchHit> order, List<List<GlobalSearchHit>> rankedLists) {
+        return Flux.mergeComparing(order, rankedLists.stream()
+                .map(Flux::fromIterable)
+                .toArray(Flux[]::new));
     }
 }
@@ -4,12 +4,14 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.userProfileAndIdentit
 import com.mentalhealthforum.mentalhealthforum_backend.service.ActionDescriptions;
 import com.mentalhealthforum.mentalhealthforum_backend.service.KeycloakAdminManager;
 import com.mentalhealthforum.mentalhealthforum_backend.service.PendingActionsService;
+import com.mentalhealthforum.mentalhealthforum_backend.utils.TtlCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.Collections;
 
 @Service
@@ -17,7 +19,12 @@ public class PendingActionsServiceImpl implements PendingActionsService {
 
     private static final Logger log = LoggerFactory.getLogger(PendingActionsServiceImpl.class);
 
+    // The status endpoint is polled on every page load; Keycloak required actions rarely change
+    private static final Duration PENDING_ACTIONS_TTL = Duration.ofSeconds(60);
+    private static final int MAX_CACHED_USERS = 50_000;
+
     private final KeycloakAdminManager adminManager;
+    private final TtlCache<String, Boolean> pendingActionsCache = new TtlCache<>(PENDING_ACTIONS_TTL, MAX_CACHED_USERS);
 
     public PendingActionsServiceImpl(KeycloakAdminManager adminManager) { this.adminManager = adminManager;}
 
@@ -30,13 +37,15 @@ public class PendingActionsServiceImpl implements PendingActionsService {
                         identifier,
                         actions,
                         ActionDescriptions.describe(actions)
-                ));
+                ))
+                // Explicit lookups always hit Keycloak and refresh the cached flag
+                .doOnNext(response -> pendingActionsCache.put(identifier, !response.requiredActions().isEmpty()));
     }
 
     @Override
     public Mono<Boolean> hasPendingActions(String identifier){
-        return getPendingActions(identifier)
-                .map(response -> !response.requiredActions().isEmpty())
+        return pendingActionsCache.getOrLoad(identifier, () -> getPendingActions(identifier)
+                        .map(response -> !response.requiredActions().isEmpty()))
                 .defaultIfEmpty(false);
 
     }
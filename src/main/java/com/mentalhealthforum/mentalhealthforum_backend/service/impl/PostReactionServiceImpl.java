@@ -5,16 +5,17 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.reactionsExpandedEmot
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ErrorCode;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ReactionType;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
-import com.mentalhealthforum.mentalhealthforum_backend.model.PostReactionEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.PostReactionSummaryEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.ReactionDefinitionEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReactionRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReactionSummaryRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.PostRepository;
-import com.mentalhealthforum.mentalhealthforum_backend.repository.ReactionDefinitionRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.service.PostReactionService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReactionIngestionBuffer;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -25,20 +26,23 @@ public class PostReactionServiceImpl implements PostReactionService {
 
     private static final Logger log = LoggerFactory.getLogger(PostReactionServiceImpl.class);
 
-    private final TransactionalOperator transactionalOperator;
     private final PostReactionRepository postReactionRepository;
+    private final PostReactionSummaryRepository postReactionSummaryRepository;
     private final PostRepository postRepository;
-    private final ReactionDefinitionRepository reactionDefinitionRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ReactionIngestionBuffer reactionIngestionBuffer;
 
     public PostReactionServiceImpl(
-            TransactionalOperator transactionalOperator,
             PostReactionRepository postReactionRepository,
+            PostReactionSummaryRepository postReactionSummaryRepository,
             PostRepository postRepository,
-            ReactionDefinitionRepository reactionDefinitionRepository) {
-        this.transactionalOperator = transactionalOperator;
+            ReferenceDataCache referenceDataCache,
+            ReactionIngestionBuffer reactionIngestionBuffer) {
         this.postReactionRepository = postReactionRepository;
+        this.postReactionSummaryRepository = postReactionSummaryRepository;
         this.postRepository = postRepository;
-        this.reactionDefinitionRepository = reactionDefinitionRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.reactionIngestionBuffer = reactionIngestionBuffer;
     }
 
 
@@ -60,28 +64,9 @@ public class PostReactionServiceImpl implements PostReactionService {
                     }
                     return Mono.just(post);
                 })
-                // check if user already has a reaction (any type) on this post
-                .flatMap(post -> postReactionRepository.findByPostIdAndUserId(postId, userId))
-                .flatMap(existingReaction -> {
-                    if(existingReaction.getReactionType() == newReaction){
-                        // Same reaction - idempotent, return current state
-                        return getPostReactions(postId, viewerContext);
-                    }
-                    else {
-                        // Different reaction - delete old, add new
-                        return postReactionRepository.deleteByPostIdAndUserId(postId, userId)
-                                .then(createReaction(postId, userId, newReaction))
-                                .then(getPostReactions(postId, viewerContext));
-                    }
-
-                })
-                .switchIfEmpty(Mono.defer(()->
-                        // No existing reaction - add new
-                        createReaction(postId, userId, newReaction)
-                                .then(getPostReactions(postId, viewerContext))
-                        ))
-                .as(transactionalOperator::transactional);
-        
+                // Replaces any existing reaction; setting the same reaction again is a no-op
+                .flatMap(post -> reactionIngestionBuffer.submit(postId, userId, newReaction))
+                .then(Mono.defer(() -> getPostReactions(postId, viewerContext)));
     }
 
     @Override
@@ -91,14 +76,9 @@ public class PostReactionServiceImpl implements PostReactionService {
         // First, verify that post exists and is not deleted
         return postRepository.findByIdAndIsDeletedFalse(postId)
                 .switchIfEmpty(Mono.error(new ApiException("Post not found", ErrorCode.RESOURCE_NOT_FOUND)))
-                .flatMap(post -> postReactionRepository.findByPostIdAndUserId(postId, userId))
-                .flatMap(existingReaction -> postReactionRepository.deleteByPostIdAndUserId(postId, userId)
-                        .then(getPostReactions(postId, viewerContext)))
-                .switchIfEmpty(Mono.defer(()->
-                    // No reaction to remove - return current state
-                    getPostReactions(postId, viewerContext)
-        ))
-        .as(transactionalOperator::transactional);
+                // No reaction to remove is a no-op
+                .flatMap(post -> reactionIngestionBuffer.submit(postId, userId, null))
+                .then(Mono.defer(() -> getPostReactions(postId, viewerContext)));
     }
 
     @Override
@@ -110,15 +90,13 @@ public class PostReactionServiceImpl implements PostReactionService {
                 .switchIfEmpty(Mono.error(new ApiException("Post not found", ErrorCode.RESOURCE_NOT_FOUND)))
                 .flatMap(post -> Mono.zip(
                         // Get reaction definitions (reference data)
-                        reactionDefinitionRepository.findAllByOrderBySortOrderAsc()
-                                .collectList()
+                        referenceDataCache.snapshot()
+                                .map(ReferenceDataCache.Snapshot::reactionDefinitions)
                                 .doOnNext(definitions -> log.debug("Definitions count: {}", definitions.size())),
 
-                        // Get reaction counts grouped by type. Returns: Map<ReactionType, Long>
-                        postReactionRepository.countReactionsByType(postId)
-                                .collectMap(
-                                        ReactionCountDto::reactionType,
-                                        ReactionCountDto::reactionCount)
+                        // Get reaction counts per type from the denormalized summary. Returns: Map<ReactionType, Integer>
+                        postReactionSummaryRepository.findById(postId)
+                                .map(PostReactionSummaryEntity::countsByType)
                                 .defaultIfEmpty(Collections.emptyMap())
                                         .doOnNext(map -> log.debug("Count map: {}", map)),
 
@@ -129,7 +107,7 @@ public class PostReactionServiceImpl implements PostReactionService {
                                 .doOnNext(reaction -> log.debug("User reaction: {}", reaction))
                 ))
                 .map(tuple -> {
-                    Map<ReactionType, Long> counts = tuple.getT2();
+                    Map<ReactionType, Integer> counts = tuple.getT2();
                     Optional<ReactionType> userReactionOpt = tuple.getT3();
                     List<ReactionDefinitionEntity> definitions = tuple.getT1();
 
@@ -140,7 +118,7 @@ public class PostReactionServiceImpl implements PostReactionService {
                                     .displayName(definition.displayName())
                                     .iconClass(definition.iconClass())
                                     // Get count from map, default to 0 if not present
-                                    .count(counts.getOrDefault(definition.reactionType(), 0L).intValue())
+                                    .count(counts.getOrDefault(definition.reactionType(), 0))
                                     // Does current user have this reaction?
                                     .userReacted(userReactionOpt.isPresent() && userReactionOpt.get() == definition.reactionType())
                                     .build())
@@ -159,7 +137,8 @@ public class PostReactionServiceImpl implements PostReactionService {
 
     @Override
     public Flux<ReactionDefinitionResponse> getReactionDefinitions() {
-        return reactionDefinitionRepository.findAllByOrderBySortOrderAsc()
+        return referenceDataCache.snapshot()
+                .flatMapIterable(ReferenceDataCache.Snapshot::reactionDefinitions)
                 .map(definition -> ReactionDefinitionResponse.builder()
                         .reactionType(definition.reactionType())
                         .displayName(definition.displayName())
@@ -169,14 +148,4 @@ public class PostReactionServiceImpl implements PostReactionService {
                         .build());
     }
 
-    // ==================== PRIVATE HELPERS ====================
-    private Mono<Void> createReaction(UUID postId, UUID userId, ReactionType reactionType) {
-        PostReactionEntity postReaction = PostReactionEntity.builder()
-                .postId(postId)
-                .userId(userId)
-                .reactionType(reactionType)
-                .build();
-        return postReactionRepository.save(postReaction).then();
-    }
-
 }
@@ -10,23 +10,35 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.SortOption;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.PostSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
 import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.ThreadEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.PostEditHistoryEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.PostEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.PostReactionEntity;
+import com.mentalhealthforum.mentalhealthforum_backend.model.PostReactionSummaryEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.AppUserRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.ThreadRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.PostEditHistoryRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostListingRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReactionRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReactionSummaryRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReplyTreeRepository;
+import com.mentalhealthforum.mentalhealthforum_backend.repository.PostReplyTreeRepository.ReplyTreeRow;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.PostRepository;
 import com.mentalhealthforum.mentalhealthforum_backend.service.AnonymousNameGenerator;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ListingCountResolver;
 import com.mentalhealthforum.mentalhealthforum_backend.service.PostService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.SearchResultCache;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ThreadStatsAggregator;
 import com.mentalhealthforum.mentalhealthforum_backend.service.UserModerationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
@@ -40,29 +52,56 @@ public class PostServiceImpl implements PostService {
 
     private static final Logger log = LoggerFactory.getLogger(PostServiceImpl.class);
 
+    // Reply tree bounds; the child cap also limits the number of roots
+    private static final int MAX_TREE_DEPTH = 10;
+    private static final int MAX_TREE_CHILDREN = 50;
+    // Authors are looked up per chunk so the first nodes go out before the whole tree is enriched
+    private static final int TREE_ENRICH_BATCH_SIZE = 100;
+
     private final TransactionalOperator transactionalOperator;
     private final PostRepository postRepository;
+    private final PostListingRepository postListingRepository;
+    private final PostReplyTreeRepository postReplyTreeRepository;
+    private final PostReactionSummaryRepository postReactionSummaryRepository;
+    private final PostReactionRepository postReactionRepository;
     private final ThreadRepository threadRepository;
     private final AppUserRepository appUserRepository;
     private final PostEditHistoryRepository postEditHistoryRepository;
     private final AnonymousNameGenerator anonymousNameGenerator;
     private final UserModerationService userModerationService;
+    private final ListingCountResolver listingCountResolver;
+    private final SearchResultCache searchResultCache;
+    private final ThreadStatsAggregator threadStatsAggregator;
 
     public PostServiceImpl(
             TransactionalOperator transactionalOperator,
             PostRepository postRepository,
+            PostListingRepository postListingRepository,
+            PostReplyTreeRepository postReplyTreeRepository,
+            PostReactionSummaryRepository postReactionSummaryRepository,
+            PostReactionRepository postReactionRepository,
             ThreadRepository threadRepository,
             AppUserRepository appUserRepository,
             PostEditHistoryRepository postEditHistoryRepository,
             AnonymousNameGenerator anonymousNameGenerator,
-            UserModerationService userModerationService) {
+            UserModerationService userModerationService,
+            ListingCountResolver listingCountResolver,
+            SearchResultCache searchResultCache,
+            ThreadStatsAggregator threadStatsAggregator) {
         this.transactionalOperator = transactionalOperator;
         this.postRepository = postRepository;
+        this.postListingRepository = postListingRepository;
+        this.postReplyTreeRepository = postReplyTreeRepository;
+        this.postReactionSummaryRepository = postReactionSummaryRepository;
+        this.postReactionRepository = postReactionRepository;
         this.threadRepository = threadRepository;
         this.appUserRepository = appUserRepository;
         this.postEditHistoryRepository = postEditHistoryRepository;
         this.anonymousNameGenerator = anonymousNameGenerator;
         this.userModerationService = userModerationService;
+        this.listingCountResolver = listingCountResolver;
+        this.searchResultCache = searchResultCache;
+        this.threadStatsAggregator = threadStatsAggregator;
     }
 
     // ==================== USER ACTIONS ====================
@@ -78,7 +117,11 @@ public class PostServiceImpl implements PostService {
                 .flatMap(thread -> validateParentPost(thread, request.getParentPostId()))
                 .flatMap(thread -> createAndSavePost(request, userId, thread.getId()))
                 .flatMap(this::enrichSinglePostWithData)
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnNext(post -> {
+                    searchResultCache.contentChanged();
+                    threadStatsAggregator.recordPostCreated(post.getThreadId(), post.getCreatedAt());
+                });
     }
 
     @Override
@@ -100,6 +143,7 @@ public class PostServiceImpl implements PostService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     ) {
 
@@ -116,7 +160,51 @@ public class PostServiceImpl implements PostService {
         }
 
         return executeGetPostsQuery(page, size, threadId, authorId, parentPostId, postType, hasContentWarning, isDeleted,
-                search, sortBy, sortDirection, viewerContext);
+                search, sortBy, sortDirection, countStrategy, viewerContext);
+    }
+
+    @Override
+    public Flux<ReplyTreeNode> getConversation(
+            UUID threadId,
+            UUID rootPostId,
+            int maxDepth,
+            int maxChildren,
+            ViewerContext viewerContext
+    ) {
+        if (maxDepth < 0 || maxChildren <= 0) {
+            log.error("Invalid reply tree bounds: maxDepth = {}, maxChildren = {}", maxDepth, maxChildren);
+            throw new InvalidPaginationException();
+        }
+
+        int validatedDepth = Math.min(maxDepth, MAX_TREE_DEPTH);
+        int validatedChildren = Math.min(maxChildren, MAX_TREE_CHILDREN);
+        ViewerTier tier = ViewerTier.of(
+                viewerContext.getUserId() != null,
+                viewerContext.isVerified(),
+                viewerContext.isModeratorOrAdmin(),
+                viewerContext.isAdmin());
+
+        return findThread(threadId)
+                .thenMany(postReplyTreeRepository.findReplyTree(threadId, rootPostId, validatedDepth, validatedChildren, tier))
+                .buffer(TREE_ENRICH_BATCH_SIZE)
+                .concatMap(rows -> enrichPostsWithBatchData(rows.stream().map(ReplyTreeRow::post).toList(), viewerId(viewerContext))
+                        .flatMapIterable(enriched -> {
+                            List<ReplyTreeNode> nodes = new ArrayList<>(rows.size());
+                            for (int i = 0; i < rows.size(); i++) {
+                                ReplyTreeRow row = rows.get(i);
+                                // Replies below the depth limit are never loaded; above it, only the first maxChildren
+                                long shownReplies = row.depth() < validatedDepth
+                                        ? Math.min(row.replyCount(), validatedChildren)
+                                        : 0;
+                                nodes.add(new ReplyTreeNode(
+                                        enriched.responses.get(i),
+                                        row.depth(),
+                                        row.path(),
+                                        row.replyCount(),
+                                        row.replyCount() - shownReplies));
+                            }
+                            return nodes;
+                        }));
     }
 
     @Override
@@ -163,7 +251,8 @@ public class PostServiceImpl implements PostService {
                 },
                 null,
                 null
-        );
+        )
+                .doOnNext(saved -> searchResultCache.contentChanged());
     }
 
     @Override
@@ -172,10 +261,16 @@ public class PostServiceImpl implements PostService {
                 postId,
                 viewerContext,
                 "soft delete post",
-                post -> postRepository.softDeletePost(postId),
+                post -> postRepository.softDeletePost(postId)
+                        .thenReturn(post),
                 null,
                 null
-        );
+        )
+                .doOnNext(post -> {
+                    searchResultCache.contentChanged();
+                    threadStatsAggregator.recordPostRemoved(post.getThreadId());
+                })
+                .then();
     }
 
     // ==================== MODERATOR ACTIONS ====================
@@ -184,18 +279,30 @@ public class PostServiceImpl implements PostService {
     public Mono<Void> softDeleteAnyPost(UUID postId, ViewerContext viewerContext) {
         return ModerationAction.POST_DELETED.checkPermission(viewerContext)
                 .then(performModeratorAction(postId,
-                        post -> postRepository.softDeletePost(postId),
+                        post -> postRepository.softDeletePost(postId)
+                        .thenReturn(post),
                         List.of(new ValidationRule(PostEntity::getIsDeleted, "Cannot delete an already deleted post")),
-                        true));
+                        true))
+                .doOnNext(post -> {
+                    searchResultCache.contentChanged();
+                    threadStatsAggregator.recordPostRemoved(post.getThreadId());
+                })
+                .then();
     }
 
     @Override
     public Mono<Void> restorePost(UUID postId, ViewerContext viewerContext) {
         return ModerationAction.POST_RESTORED.checkPermission(viewerContext)
                 .then(performModeratorAction(postId,
-                        post -> postRepository.restorePost(postId),
+                        post -> postRepository.restorePost(postId)
+                                .thenReturn(post),
                         List.of(new ValidationRule(post -> !post.getIsDeleted(), "Cannot restore a post that is not deleted")),
-                        false));
+                        false))
+                .doOnNext(post -> {
+                    searchResultCache.contentChanged();
+                    threadStatsAggregator.recordPostRestored(post.getThreadId());
+                })
+                .then();
     }
 
     // ==================== ADMIN ACTIONS ====================
@@ -255,8 +362,13 @@ public class PostServiceImpl implements PostService {
     public Mono<Void> permanentlyDeletePost(UUID postId, ViewerContext viewerContext) {
         return ModerationAction.POST_PERMANENTLY_DELETED.checkPermission(viewerContext)
                 .then(findPost(postId))
-                .flatMap(postRepository::delete)
-                .as(transactionalOperator::transactional);
+                .flatMap(post -> postRepository.delete(post).thenReturn(post))
+                .as(transactionalOperator::transactional)
+                .doOnNext(post -> searchResultCache.contentChanged())
+                // Soft-deleted posts are already excluded from post_count
+                .filter(post -> !post.getIsDeleted())
+                .doOnNext(post -> threadStatsAggregator.recordPostRemoved(post.getThreadId()))
+                .then();
     }
 
     // ==================== PRIVATE HELPERS ====================
@@ -344,6 +456,7 @@ public class PostServiceImpl implements PostService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     ) {
         if (page < 0 || size <= 0) {
@@ -353,50 +466,53 @@ public class PostServiceImpl implements PostService {
 
         int offset = page * size;
 
-        UUID viewerId = UUID.fromString(viewerContext.getUserId());
-        boolean isAdmin = viewerContext.isAdmin();
-        boolean isModeratorOrAdmin = viewerContext.isModeratorOrAdmin();
-        boolean isVerified = viewerContext.isVerified();
-
         String effectivePostType = (postType == null) ? null : postType.name();
         String effectiveSearch = (search == null || search.isBlank()) ? null : search.trim();
         PostSortField sortByField = validateAndNormalizeSortBy(sortBy);
         String effectiveSortDirection = sortByField.determineSortDirection(sortDirection);
 
         // Note: flaggedForReview is not currently used as a filter in the service
-
-        return postRepository.findPostsPaginated(
-                        viewerId,
-                        isAdmin, isModeratorOrAdmin, isVerified,
-                        threadId, authorId, parentPostId,
-                        effectivePostType, hasContentWarning, isDeleted, false,
-                        effectiveSearch,
-                        sortByField.getValue(), effectiveSortDirection,
-                        size, offset)
+        PostListingFilter filter = new PostListingFilter(
+                UUID.fromString(viewerContext.getUserId()),
+                viewerContext.isAdmin(), viewerContext.isModeratorOrAdmin(), viewerContext.isVerified(),
+                threadId, authorId, parentPostId,
+                effectivePostType, hasContentWarning, isDeleted, false,
+                effectiveSearch);
+
+        return postListingRepository.findPage(filter, sortByField, effectiveSortDirection,
+                        listingCountResolver.fetchSize(countStrategy, size), offset)
                 .collectList()
-                .flatMap(posts -> {
-                    if(posts.isEmpty()){
+                .flatMap(fetched -> {
+                    if(fetched.isEmpty()){
                         return Mono.just(new PaginatedResponse<>(List.of(), page, size, 0L));
                     }
 
-                    return enrichPostsWithBatchData(posts)
-                            .zipWith(postRepository.countPostsWithFilters(
-                                    viewerId,
-                                    isAdmin, isModeratorOrAdmin, isVerified,
-                                    threadId, authorId, parentPostId,
-                                    effectivePostType, hasContentWarning, isDeleted, false,
-                                    effectiveSearch))
+                    boolean hasNext = fetched.size() > size;
+                    List<PostEntity> posts = hasNext ? fetched.subList(0, size) : fetched;
+
+                    return enrichPostsWithBatchData(posts, filter.viewerId())
+                            .zipWith(listingCountResolver.resolve(
+                                    countStrategy,
+                                    "posts:" + filter.countKey(),
+                                    () -> postListingRepository.count(filter),
+                                    () -> postListingRepository.estimateCount(filter)))
                             .map(tuple -> {
                                 EnrichedPostData enrichedPostData = tuple.getT1();
                                 long total = tuple.getT2();
 
                                 FilterMetadata<PostFilterDto> filters = buildPostFilters(enrichedPostData);
-                                return new PaginatedResponse<>(enrichedPostData.responses, page, size, total, filters);
+                                return countStrategy == CountStrategy.HAS_MORE
+                                        ? new PaginatedResponse<>(enrichedPostData.responses, page, size, hasNext, filters)
+                                        : new PaginatedResponse<>(enrichedPostData.responses, page, size, total, filters);
                             });
                 });
 
     }
 
+    private UUID viewerId(ViewerContext viewerContext) {
+        return viewerContext.getUserId() != null ? UUID.fromString(viewerContext.getUserId()) : null;
+    }
+
     private PostSortField validateAndNormalizeSortBy(String sortBy) {
       return PostSortField.fromString(sortBy);
     }
@@ -449,20 +565,25 @@ public class PostServiceImpl implements PostService {
     }
 
     /**
-     * Enriches a single post with author details.
+     * Enriches a single post with author details and reaction summary.
      * Uses individual queries since only one post is being fetched.
      */
     private Mono<PostResponse> enrichSinglePostWithData(PostEntity post) {
+        Mono<Map<ReactionType, Integer>> reactionSummary = postReactionSummaryRepository.findById(post.getId())
+                .map(PostReactionSummaryEntity::countsByType)
+                .defaultIfEmpty(Map.of());
+
         return appUserRepository.findAppUserByKeycloakId(post.getAuthorId().toString())
                 .map(AppUserEntity::toUserDetails)
-                .map(author -> mapResponseWithData(post, author));
+                .zipWith(reactionSummary)
+                .map(tuple -> mapResponseWithData(post, tuple.getT1(), tuple.getT2()));
     }
 
     /**
-     * Enriches a list of posts with author details using batch fetching.
+     * Enriches a list of posts with author details, reaction summaries and the viewer's own reactions.
      * Uses batch fetching to avoid N+1 queries.
      */
-    private Mono<EnrichedPostData> enrichPostsWithBatchData(List<PostEntity> posts){
+    private Mono<EnrichedPostData> enrichPostsWithBatchData(List<PostEntity> posts, UUID viewerId){
         if(posts.isEmpty()){
             return Mono.just(new EnrichedPostData(
                     List.of(),
@@ -483,12 +604,32 @@ public class PostServiceImpl implements PostService {
                 .collectMap(AppUserEntity::getKeycloakId, AppUserEntity::toUserDetails)
                 .defaultIfEmpty(new HashMap<>());
 
-        return authorsMap
-                .map(authors -> {
+        List<UUID> postIds = posts.stream().map(PostEntity::getId).distinct().toList();
+
+        // Batch fetch reaction summaries (posts without reactions have none)
+        Mono<Map<UUID, Map<ReactionType, Integer>>> summariesMap = postReactionSummaryRepository
+                .findReactionSummaries(postIds)
+                .collectMap(PostReactionSummaryEntity::getPostId, PostReactionSummaryEntity::countsByType)
+                .defaultIfEmpty(new HashMap<>());
+
+        // Batch fetch the viewer's own reactions on the page
+        Mono<Map<UUID, ReactionType>> viewerReactionsMap = viewerId == null
+                ? Mono.just(Map.of())
+                : postReactionRepository.findByUserIdAndPostIds(viewerId, postIds.toArray(UUID[]::new))
+                        .collectMap(PostReactionEntity::getPostId, PostReactionEntity::getReactionType)
+                        .defaultIfEmpty(new HashMap<>());
+
+        return Mono.zip(authorsMap, summariesMap, viewerReactionsMap)
+                .map(tuple -> {
+                    Map<UUID, UserDetails> authors = tuple.getT1();
+                    Map<UUID, Map<ReactionType, Integer>> summaries = tuple.getT2();
+                    Map<UUID, ReactionType> viewerReactions = tuple.getT3();
                     List<PostResponse> responses = posts.stream()
                             .map(post -> {
                                 UserDetails author = authors.get(post.getAuthorId());
-                                return mapResponseWithData(post, author);
+                                PostResponse response = mapResponseWithData(post, author, summaries.getOrDefault(post.getId(), Map.of()));
+                                response.setViewerReaction(viewerReactions.get(post.getId()));
+                                return response;
                             })
                             .toList();
 
@@ -502,12 +643,13 @@ public class PostServiceImpl implements PostService {
     }
 
     /**
-     * Builds a PostResponse from post and author data.
+     * Builds a PostResponse from post, author and reaction summary data.
      * Used by both single and batch enrichment flows.
      */
     private PostResponse mapResponseWithData(
         PostEntity post,
-        UserDetails author
+        UserDetails author,
+        Map<ReactionType, Integer> reactionSummary
     ) {
         return PostResponse.builder()
                 .id(post.getId())
@@ -529,6 +671,7 @@ public class PostServiceImpl implements PostService {
                 .isAnonymous(post.getIsAnonymous())
                 .isDeleted(post.getIsDeleted())
                 .reactionCount(post.getReactionCount())
+                .reactionSummary(reactionSummary)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
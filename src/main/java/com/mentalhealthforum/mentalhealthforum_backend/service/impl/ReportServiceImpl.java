@@ -10,10 +10,13 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.FilterOption;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.ReportFilterDto;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.ReportSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
 import com.mentalhealthforum.mentalhealthforum_backend.model.*;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.*;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ListingCountResolver;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ReferenceDataCache;
 import com.mentalhealthforum.mentalhealthforum_backend.service.ReportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,33 +40,30 @@ public class ReportServiceImpl implements ReportService {
 
     private final TransactionalOperator transactionalOperator;
     private final ContentReportRepository contentReportRepository;
-    private final ReportTemplateRepository reportTemplateRepository;
-    private final ModerationActionTemplateRepository moderationActionTemplateRepository;
-    private final DismissalReasonTemplateRepository dismissalReasonTemplateRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserReportHistoryRepository userReportHistoryRepository;
     private final PostRepository postRepository;
     private final ThreadRepository threadRepository;
     private final AppUserRepository appUserRepository;
+    private final ListingCountResolver listingCountResolver;
 
     public ReportServiceImpl(
             TransactionalOperator transactionalOperator,
             ContentReportRepository contentReportRepository,
-            ReportTemplateRepository reportTemplateRepository,
-            ModerationActionTemplateRepository moderationActionTemplateRepository,
-            DismissalReasonTemplateRepository dismissalReasonTemplateRepository,
+            ReferenceDataCache referenceDataCache,
             UserReportHistoryRepository userReportHistoryRepository,
             PostRepository postRepository,
             ThreadRepository threadRepository,
-            AppUserRepository appUserRepository) {
+            AppUserRepository appUserRepository,
+            ListingCountResolver listingCountResolver) {
         this.transactionalOperator = transactionalOperator;
         this.contentReportRepository = contentReportRepository;
-        this.reportTemplateRepository = reportTemplateRepository;
-        this.moderationActionTemplateRepository = moderationActionTemplateRepository;
-        this.dismissalReasonTemplateRepository = dismissalReasonTemplateRepository;
+        this.referenceDataCache = referenceDataCache;
         this.userReportHistoryRepository = userReportHistoryRepository;
         this.postRepository = postRepository;
         this.threadRepository = threadRepository;
         this.appUserRepository = appUserRepository;
+        this.listingCountResolver = listingCountResolver;
     }
 
     // ==================== USER ACTIONS ====================
@@ -136,6 +136,7 @@ public class ReportServiceImpl implements ReportService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     ) {
 
@@ -157,21 +158,28 @@ public class ReportServiceImpl implements ReportService {
         return contentReportRepository.findOwnReportsPaginated(
                         userId, targetTypeStr,
                         statusStr, categoryStr, effectiveSearch,
-                        sortByField.getValue(), effectiveSortDirection, size, offset
+                        sortByField.getValue(), effectiveSortDirection,
+                        listingCountResolver.fetchSize(countStrategy, size), offset
                 )
                 .collectList()
-                .zipWith(contentReportRepository.countOwnReportsWithFilters(
-                        userId, targetTypeStr,
-                        statusStr, categoryStr, effectiveSearch
-                ))
+                .zipWith(listingCountResolver.resolve(
+                        countStrategy,
+                        "own-reports:" + Arrays.asList(userId, targetTypeStr, statusStr, categoryStr, effectiveSearch),
+                        () -> contentReportRepository.countOwnReportsWithFilters(
+                                userId, targetTypeStr,
+                                statusStr, categoryStr, effectiveSearch),
+                        null))
                 .flatMap(tuple -> {
-                    List<ContentReportEntity> reports = tuple.getT1();
+                    List<ContentReportEntity> fetched = tuple.getT1();
                     long total = tuple.getT2();
 
-                    if(reports.isEmpty()){
+                    if(fetched.isEmpty()){
                         return Mono.just(new PaginatedResponse<>(List.of(), page, size, 0L));
                     }
 
+                    boolean hasNext = fetched.size() > size;
+                    List<ContentReportEntity> reports = hasNext ? fetched.subList(0, size) : fetched;
+
                     return enrichReportsWithBatchData(reports)
                             .map(enrichedReports -> {
 
@@ -179,7 +187,9 @@ public class ReportServiceImpl implements ReportService {
                                         .filters(null)
                                         .sortOptions(ReportSortField.getOwnReportsSortOptions())
                                         .build();
-                                return  new PaginatedResponse<>(enrichedReports.responses, page, size, total, filters);
+                                return countStrategy == CountStrategy.HAS_MORE
+                                        ? new PaginatedResponse<>(enrichedReports.responses, page, size, hasNext, filters)
+                                        : new PaginatedResponse<>(enrichedReports.responses, page, size, total, filters);
 
                             });
                 });
@@ -205,6 +215,7 @@ public class ReportServiceImpl implements ReportService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext) {
 
         if(!viewerContext.isModeratorOrAdmin()){
@@ -229,26 +240,36 @@ public class ReportServiceImpl implements ReportService {
         return contentReportRepository.findAllReportsPaginated(
                         reporterId, reportedUserId, threadId, postId, targetTypeStr,
                         statusStr, categoryStr, severityStr, assignedTo,reviewedBy, effectiveSearch,
-                        sortByField.getValue(), effectiveSortDirection, size, offset
+                        sortByField.getValue(), effectiveSortDirection,
+                        listingCountResolver.fetchSize(countStrategy, size), offset
                 )
                 .collectList()
-                .zipWith(contentReportRepository.countAllReportsWithFilters(
-                        reporterId, reportedUserId, threadId, postId, targetTypeStr,
-                        statusStr, categoryStr, severityStr, assignedTo, reviewedBy, effectiveSearch
-                ))
+                .zipWith(listingCountResolver.resolve(
+                        countStrategy,
+                        "reports:" + Arrays.asList(reporterId, reportedUserId, threadId, postId, targetTypeStr,
+                                statusStr, categoryStr, severityStr, assignedTo, reviewedBy, effectiveSearch),
+                        () -> contentReportRepository.countAllReportsWithFilters(
+                                reporterId, reportedUserId, threadId, postId, targetTypeStr,
+                                statusStr, categoryStr, severityStr, assignedTo, reviewedBy, effectiveSearch),
+                        null))
                 .flatMap(tuple -> {
-                    List<ContentReportEntity> reports = tuple.getT1();
+                    List<ContentReportEntity> fetched = tuple.getT1();
                     long total = tuple.getT2();
 
-                    if(reports.isEmpty()){
+                    if(fetched.isEmpty()){
                         return Mono.just(new PaginatedResponse<>(List.of(), page, size, 0L));
                     }
 
+                    boolean hasNext = fetched.size() > size;
+                    List<ContentReportEntity> reports = hasNext ? fetched.subList(0, size) : fetched;
+
                     return enrichReportsWithBatchData(reports)
                             .map(enrichedReports -> {
 
                                 FilterMetadata<ReportFilterDto> filters = buildReportFilters(enrichedReports);
-                                return  new PaginatedResponse<>(enrichedReports.responses, page, size, total, filters);
+                                return countStrategy == CountStrategy.HAS_MORE
+                                        ? new PaginatedResponse<>(enrichedReports.responses, page, size, hasNext, filters)
+                                        : new PaginatedResponse<>(enrichedReports.responses, page, size, total, filters);
 
                             });
                 });
@@ -526,14 +547,17 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public Flux<ReportTemplateResponse> getReportTemplates() {
-        return reportTemplateRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
+        return referenceDataCache.snapshot()
+                .flatMapIterable(ReferenceDataCache.Snapshot::reportTemplates)
                 .flatMap(this::mapToReportTemplateResponse);
     }
 
     @Override
     public Flux<ReportTemplateResponse> getReportTemplatesByCategory(ReportCategory category) {
-    return reportTemplateRepository.findByReportCategoryAndIsActiveTrueOrderByDisplayOrderAsc(category)
-            .flatMap(this::mapToReportTemplateResponse);
+        return referenceDataCache.snapshot()
+                .flatMapIterable(ReferenceDataCache.Snapshot::reportTemplates)
+                .filter(template -> template.getReportCategory() == category)
+                .flatMap(this::mapToReportTemplateResponse);
     }
 
     @Override
@@ -543,7 +567,8 @@ public class ReportServiceImpl implements ReportService {
             return Flux.error(new ApiException("Access denied. Only moderators can view moderation action templates", ErrorCode.FORBIDDEN));
         }
 
-        return moderationActionTemplateRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
+        return referenceDataCache.snapshot()
+                .flatMapIterable(ReferenceDataCache.Snapshot::moderationActionTemplates)
                 .filter(template -> viewerContext.isInGroup(template.getActionType().getRequiredGroup()))
                 .flatMap(this::mapToModerationActionTemplateResponse);
     }
@@ -555,7 +580,8 @@ public class ReportServiceImpl implements ReportService {
             return Flux.error(new ApiException("Access denied. Only moderators can view moderation action templates", ErrorCode.FORBIDDEN));
         }
 
-        return dismissalReasonTemplateRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
+        return referenceDataCache.snapshot()
+                .flatMapIterable(ReferenceDataCache.Snapshot::dismissalReasonTemplates)
                 .flatMap(this::mapToDismissalReasonTemplateResponse);
     }
 
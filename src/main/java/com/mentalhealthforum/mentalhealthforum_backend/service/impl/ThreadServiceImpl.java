@@ -1,11 +1,8 @@
 package com.mentalhealthforum.mentalhealthforum_backend.service.impl;
 
+import com.mentalhealthforum.mentalhealthforum_backend.dto.ListingCursor;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.PaginatedResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.ViewerContext;
-import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.BookmarkCountRecord;
-import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.BookmarkStatusRecord;
-import com.mentalhealthforum.mentalhealthforum_backend.dto.discovery.WatchStatusRecord;
-import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.CategoryTagResponse;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.forumCategoriesHierarchicalAndTagged.CategoryTagWithCategoryId;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.FilterMetadata;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.FilterOption;
@@ -14,6 +11,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.dto.filters.ThreadFilterD
 import com.mentalhealthforum.mentalhealthforum_backend.dto.postsRicherContentAndSafety.AddContentWarningRequest;
 import com.mentalhealthforum.mentalhealthforum_backend.dto.threadLifecycleAndMetadata.*;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.*;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.ThreadSortField;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
@@ -43,52 +41,50 @@ public class ThreadServiceImpl implements ThreadService {
     private final TransactionalOperator transactionalOperator;
     private final AppUserRepository appUserRepository;
     private final CategoryRepository categoryRepository;
-    private final CategoryTagRepository categoryTagRepository;
     private final ThreadRepository threadRepository;
+    private final ThreadListingRepository threadListingRepository;
+    private final ThreadReadModelRepository threadReadModelRepository;
     private final ThreadEditHistoryRepository threadEditHistoryRepository;
     private final PostRepository postRepository;
-    private final ThreadTypeDefinitionRepository threadTypeDefinitionRepository;
-    private final ThreadStatusDefinitionRepository threadStatusDefinitionRepository;
-    private final ThreadBookmarkRepository threadBookmarkRepository;
-    private final WatchThreadRepository watchThreadRepository;
-    private final CategoryTagService categoryTagService;
-    private final BookmarkService bookmarkService;
     private final UserModerationService userModerationService;
-    private final WatchThreadService watchThreadService;
-
+    private final ListingCountResolver listingCountResolver;
+    private final ThreadViewCounter threadViewCounter;
+    private final ReferenceDataCache referenceDataCache;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final SearchResultCache searchResultCache;
+    private final ThreadTitleSearchIndex threadTitleSearchIndex;
 
     public ThreadServiceImpl(
             TransactionalOperator transactionalOperator,
             AppUserRepository appUserRepository,
             CategoryRepository categoryRepository,
-            CategoryTagRepository categoryTagRepository,
             ThreadRepository threadRepository,
+            ThreadListingRepository threadListingRepository,
+            ThreadReadModelRepository threadReadModelRepository,
             ThreadEditHistoryRepository threadEditHistoryRepository,
             PostRepository postRepository,
-            ThreadTypeDefinitionRepository threadTypeDefinitionRepository,
-            ThreadStatusDefinitionRepository threadStatusDefinitionRepository,
-            ThreadBookmarkRepository threadBookmarkRepository,
-            WatchThreadRepository watchThreadRepository,
-            CategoryTagService categoryTagService,
-            BookmarkService bookmarkService,
             UserModerationService userModerationService,
-            WatchThreadService watchThreadService) {
+            ListingCountResolver listingCountResolver,
+            ThreadViewCounter threadViewCounter,
+            ReferenceDataCache referenceDataCache,
+            SearchSuggestionIndex searchSuggestionIndex,
+            SearchResultCache searchResultCache,
+            ThreadTitleSearchIndex threadTitleSearchIndex) {
         this.transactionalOperator = transactionalOperator;
         this.appUserRepository = appUserRepository;
         this.categoryRepository = categoryRepository;
-        this.categoryTagRepository = categoryTagRepository;
         this.threadRepository = threadRepository;
+        this.threadListingRepository = threadListingRepository;
+        this.threadReadModelRepository = threadReadModelRepository;
         this.threadEditHistoryRepository = threadEditHistoryRepository;
         this.postRepository = postRepository;
-        this.threadTypeDefinitionRepository = threadTypeDefinitionRepository;
-        this.threadStatusDefinitionRepository = threadStatusDefinitionRepository;
-        this.threadBookmarkRepository = threadBookmarkRepository;
-        this.watchThreadRepository = watchThreadRepository;
-        this.categoryTagService = categoryTagService;
-        this.bookmarkService = bookmarkService;
         this.userModerationService = userModerationService;
-
-        this.watchThreadService = watchThreadService;
+        this.listingCountResolver = listingCountResolver;
+        this.threadViewCounter = threadViewCounter;
+        this.referenceDataCache = referenceDataCache;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.searchResultCache = searchResultCache;
+        this.threadTitleSearchIndex = threadTitleSearchIndex;
     }
 
     // ==================== USER ACTIONS ====================
@@ -105,7 +101,8 @@ public class ThreadServiceImpl implements ThreadService {
                         .then(validateCategoryActive(request.getCategoryId())))
                 .flatMap(category -> createAndSaveThread(request, userId, normalizedTags))
                 .flatMap(thread -> enrichSingleThreadWithData(thread, viewerContext))
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnNext(this::reindexThread);
     }
 
 
@@ -113,8 +110,10 @@ public class ThreadServiceImpl implements ThreadService {
     public Mono<ThreadResponse> getThread(UUID threadId, ViewerContext viewerContext) {
         return findThread(threadId)
                 .flatMap(thread -> {
-                    return threadRepository.incrementViewCount(threadId)
-                            .then(enrichSingleThreadWithData(thread, viewerContext));
+                    // Buffered and flushed in batches; include this node's unflushed views in the response
+                    threadViewCounter.recordView(threadId, viewerContext != null ? viewerContext.getUserId() : null);
+                    thread.setViewCount(thread.getViewCount() + threadViewCounter.pendingViews(threadId));
+                    return enrichSingleThreadWithData(thread, viewerContext);
                 });
     }
 
@@ -137,19 +136,10 @@ public class ThreadServiceImpl implements ThreadService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     ) {
 
-        UUID viewerId = UUID.fromString(viewerContext.getUserId());
-
-        if ((isDeleted != null && isDeleted)) {
-            boolean canViewAllDeleted = ModerationAction.VIEW_DELETED_THREADS.isAllowedFor(viewerContext);
-            // Silent: force filter to current user without error
-            if (!canViewAllDeleted) {
-                creatorId = viewerId;
-            }
-        }
-
         if (page < 0 || size <= 0) {
             log.error("Invalid pagination parameters: page={}, size={}", page, size);
             throw new InvalidPaginationException();
@@ -157,58 +147,114 @@ public class ThreadServiceImpl implements ThreadService {
 
         int offset = page * size;
 
-        boolean isAdmin = viewerContext.isAdmin();
-        boolean isModeratorOrAdmin = viewerContext.isModeratorOrAdmin();
-        boolean isVerified = viewerContext.isVerified();
-
-        String effectiveThreadType = threadType != null ? threadType.name() : null;
-        String effectiveThreadStatus = threadStatus != null ? threadStatus.name() : null;
-        String effectiveSearch = (search == null || search.trim().isEmpty()) ? null : search.trim();
+        ThreadListingFilter filter = buildListingFilter(
+                categoryId, creatorId, threadType, threadStatus,
+                isDeleted, isFeatured, hasContentWarning,
+                isBookmarked, isWatched, categoryTagId, search, viewerContext);
 
-        ThreadSortField sortByField = validateAndNormalizeSortBy(sortBy);
+        ThreadSortField sortByField = validateAndNormalizeSortBy(sortBy).forSearch(filter.search());
         String normalizedSortDirection = sortByField.determineSortDirection(sortDirection);
 
-        Flux<ThreadEntity> theadsFlux = threadRepository.findAllPaginated(
-                viewerId,
-                isAdmin, isModeratorOrAdmin, isVerified,
-                categoryId, creatorId,
-                effectiveThreadType, effectiveThreadStatus,
-                isDeleted, isFeatured, hasContentWarning,
-                isBookmarked, isWatched,
-                categoryTagId,
-                effectiveSearch,
-                sortByField.getValue(), normalizedSortDirection, size, offset);
+        Flux<ThreadEntity> theadsFlux = threadListingRepository.findPage(
+                filter, sortByField, normalizedSortDirection,
+                listingCountResolver.fetchSize(countStrategy, size), offset);
 
-        Mono<Long> totalCount = threadRepository.countAllPaginated(
-                viewerId,
-                isAdmin, isModeratorOrAdmin, isVerified,
-                categoryId, creatorId,
-                effectiveThreadType, effectiveThreadStatus,
-                isDeleted, isFeatured, hasContentWarning,
-                isBookmarked, isWatched,
-                categoryTagId,
-                effectiveSearch);
+        Mono<Long> totalCount = listingCountResolver.resolve(
+                countStrategy,
+                "threads:" + filter.countKey(),
+                () -> threadListingRepository.count(filter),
+                () -> threadListingRepository.estimateCount(filter));
 
         return Mono.zip(
                 theadsFlux.collectList(),
                 totalCount
         ).flatMap(tuple -> {
-            List<ThreadEntity> threads = tuple.getT1();
+            List<ThreadEntity> fetched = tuple.getT1();
             long total = tuple.getT2();
 
-            if (threads.isEmpty()) {
+            if (fetched.isEmpty()) {
                 return Mono.just(new PaginatedResponse<>(List.of(), page, size, 0L));
             }
 
-            return enrichThreadWithBatchData(threads, viewerId, viewerContext)
+            boolean hasNext = fetched.size() > size;
+            List<ThreadEntity> threads = hasNext ? fetched.subList(0, size) : fetched;
+
+            return enrichThreadWithBatchData(threads, filter.viewerId(), viewerContext)
                     .map( enrichedThreadData-> {
 
                         FilterMetadata<ThreadFilterDto> filters = buildThreadFilters(enrichedThreadData);
-                        return new PaginatedResponse<>(enrichedThreadData.responses, page, size, total, filters);
+                        return countStrategy == CountStrategy.HAS_MORE
+                                ? new PaginatedResponse<>(enrichedThreadData.responses, page, size, hasNext, filters)
+                                : new PaginatedResponse<>(enrichedThreadData.responses, page, size, total, filters);
                     });
         });
     }
 
+    @Override
+    public Mono<PaginatedResponse<ThreadResponse>> getAllThreadsByCursor(
+            String cursor,
+            int size,
+            UUID categoryId,
+            UUID creatorId,
+            ThreadType threadType,
+            ThreadStatus threadStatus,
+            Boolean isDeleted,
+            Boolean isFeatured,
+            Boolean hasContentWarning,
+            Boolean isBookmarked,
+            Boolean isWatched,
+            UUID categoryTagId,
+            String search,
+            String sortBy,
+            String sortDirection,
+            ViewerContext viewerContext
+    ) {
+        if (size <= 0) {
+            log.error("Invalid pagination parameters: size={}", size);
+            throw new InvalidPaginationException();
+        }
+
+        ThreadListingFilter filter = buildListingFilter(
+                categoryId, creatorId, threadType, threadStatus,
+                isDeleted, isFeatured, hasContentWarning,
+                isBookmarked, isWatched, categoryTagId, search, viewerContext);
+
+        ThreadSortField sortByField = validateAndNormalizeSortBy(sortBy).forSearch(filter.search());
+        String normalizedSortDirection = sortByField.determineSortDirection(sortDirection);
+
+        // Blank cursor starts a cursor-paged listing from the first page
+        ListingCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            position = ListingCursor.decode(cursor);
+            if (!position.matches(sortByField.getValue(), normalizedSortDirection)) {
+                throw new ApiException(ErrorCode.INVALID_CURSOR);
+            }
+            // Reject a tampered or stale sort key here rather than failing while binding it
+            position.typedSortKey(sortByField.getKeyType());
+        }
+
+        // Fetch one extra row to know whether another page exists
+        return threadListingRepository.findPageAfterCursor(filter, sortByField, normalizedSortDirection, position, size + 1)
+                .collectList()
+                .flatMap(threads -> {
+                    if (threads.isEmpty()) {
+                        return Mono.just(new PaginatedResponse<ThreadResponse>(List.of(), size, null, null));
+                    }
+
+                    boolean hasNext = threads.size() > size;
+                    List<ThreadEntity> page = hasNext ? threads.subList(0, size) : threads;
+                    String nextCursor = hasNext
+                            ? buildCursor(page.get(page.size() - 1), sortByField, normalizedSortDirection).encode()
+                            : null;
+
+                    return enrichThreadWithBatchData(page, filter.viewerId(), viewerContext)
+                            .map(enrichedThreadData -> {
+                                FilterMetadata<ThreadFilterDto> filters = buildThreadFilters(enrichedThreadData);
+                                return new PaginatedResponse<>(enrichedThreadData.responses, size, nextCursor, filters);
+                            });
+                });
+    }
+
     @Override
     public Mono<ThreadResponse> updateOwnThread(UUID threadId, UpdateOwnThreadRequest request, ViewerContext viewerContext) {
         UUID creatorId = UUID.fromString(viewerContext.getUserId());
@@ -264,7 +310,8 @@ public class ThreadServiceImpl implements ThreadService {
                 },
                 null,
                 null
-        );
+        )
+                .doOnNext(this::reindexThread);
     }
 
     @Override
@@ -278,7 +325,8 @@ public class ThreadServiceImpl implements ThreadService {
                 },
                 null,
                 null
-        );
+        )
+                .doOnSuccess(v -> unindexThread(threadId));
     }
 
     @Override
@@ -305,8 +353,7 @@ public class ThreadServiceImpl implements ThreadService {
                         thread -> {
                             return threadRepository.updateThreadStatus(threadId, ThreadStatus.ARCHIVED.name())
                                     .then(threadRepository.clearLockMetadata(threadId))
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -327,8 +374,7 @@ public class ThreadServiceImpl implements ThreadService {
                         thread -> {
                             return threadRepository.updateThreadStatus(threadId, ThreadStatus.OPEN.name())
                                     .then(threadRepository.clearLockMetadata(threadId))
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -354,8 +400,7 @@ public class ThreadServiceImpl implements ThreadService {
                             return threadRepository.updateThreadStatus(threadId, ThreadStatus.CLOSED.name())
                                     .then(threadRepository.updateLockReason(threadId, request.reason(), moderatorId))
                                     .then(threadRepository.updateLockExpiry(threadId, lockExpiry))
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
 
                         },
                         List.of(
@@ -376,8 +421,7 @@ public class ThreadServiceImpl implements ThreadService {
                         thread -> {
                             return threadRepository.updateThreadStatus(threadId, ThreadStatus.OPEN.name())
                                     .then(threadRepository.clearLockMetadata(threadId))
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -435,8 +479,7 @@ public class ThreadServiceImpl implements ThreadService {
                 .then(performModeratorAction(threadId,
                         thread -> {
                             return threadRepository.updateStickyStatus(threadId, sticky)
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -457,8 +500,7 @@ public class ThreadServiceImpl implements ThreadService {
                 .then(performModeratorAction(threadId,
                         thread -> {
                             return threadRepository.updateFeaturedStatus(threadId, featured)
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -478,8 +520,7 @@ public class ThreadServiceImpl implements ThreadService {
                 .then(performModeratorAction(threadId,
                         thread -> {
                             return threadRepository.moveThread(threadId, newCategoryId)
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -489,7 +530,8 @@ public class ThreadServiceImpl implements ThreadService {
                                 )
                         ),
                         true
-                ));
+                ))
+                .doOnNext(this::reindexThread);
     }
 
     @Override
@@ -507,14 +549,16 @@ public class ThreadServiceImpl implements ThreadService {
                                 )
                         ),
                         true
-                ));
+                ))
+                .doOnSuccess(v -> unindexThread(threadId));
     }
 
     @Override
     public Mono<Void> restoreThread(UUID threadId, ViewerContext viewerContext) {
         return ModerationAction.THREAD_RESTORED.checkPermission(viewerContext)
                 .then(performModeratorAction(threadId,
-                        thread -> threadRepository.restoreThread(threadId),
+                        thread -> threadRepository.restoreThread(threadId)
+                                .thenReturn(thread),
                         List.of(
                                 new ValidationRule(
                                         thread -> !thread.getIsDeleted(),
@@ -523,7 +567,12 @@ public class ThreadServiceImpl implements ThreadService {
                                 )
                         ),
                         false
-                ));
+                ))
+                .doOnNext(thread -> {
+                    thread.setIsDeleted(false);
+                    reindexThread(thread);
+                })
+                .then();
     }
 
     @Override
@@ -534,8 +583,7 @@ public class ThreadServiceImpl implements ThreadService {
                         thread -> {
                             // Though I think in future it might be best to get resolved at from somewhere else
                             return threadRepository.setBestAnswer(postId, threadId, moderatorId)
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -560,8 +608,7 @@ public class ThreadServiceImpl implements ThreadService {
                         threadId,
                         thread -> {
                             return threadRepository.clearBestAnswer(threadId)
-                                    .then(findThread(threadId))
-                                    .flatMap(t -> enrichSingleThreadWithData(thread, viewerContext));
+                                    .then(loadThreadResponse(threadId, viewerContext));
                         },
                         List.of(
                                 new ValidationRule(
@@ -639,9 +686,10 @@ public class ThreadServiceImpl implements ThreadService {
                             .then(threadRepository.incrementPostCount(destinationThreadId, sourcePostCount))
                             .then(threadRepository.updateLastActivity(destinationThreadId))
                             .then(threadRepository.softDeleteThread(sourceThreadId))
-                            .then(enrichSingleThreadWithData(destinationThread, viewerContext));
+                            .then(loadThreadResponse(destinationThreadId, viewerContext));
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(response -> unindexThread(sourceThreadId));
     }
 
     @Override
@@ -668,8 +716,7 @@ public class ThreadServiceImpl implements ThreadService {
                                             postRepository.movePostsToThread(request.postIds(), savedThread.getId())
                                                     .then(threadRepository.recalculatePostCount(savedThread.getId()))
                                                     .then(threadRepository.decrementPostCount(sourceThreadId, request.postIds().size()))
-                                                    .then(findThread(savedThread.getId()))
-                                                    .flatMap(thread -> enrichSingleThreadWithData(thread, viewerContext))
+                                                    .then(loadThreadResponse(savedThread.getId(), viewerContext))
                                     );
 
                         },
@@ -686,7 +733,8 @@ public class ThreadServiceImpl implements ThreadService {
                                 )
                         ),
                         true
-                ));
+                ))
+                .doOnNext(this::reindexThread);
     }
 
     // ==================== ADMIN ACTIONS ====================
@@ -699,27 +747,107 @@ public class ThreadServiceImpl implements ThreadService {
                     return threadEditHistoryRepository.deleteByThreadId(thread.getId())
                             .then(threadRepository.delete(thread));
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> unindexThread(threadId));
     }
 
     // ==================== REFERENCE DATA ====================
 
     @Override
     public Flux<ThreadTypeDefinitionEntity> getThreadTypes() {
-        return threadTypeDefinitionRepository.findAllByOrderByDisplayNameASC();
+        return referenceDataCache.snapshot().flatMapIterable(ReferenceDataCache.Snapshot::threadTypes);
     }
 
     @Override
     public Flux<ThreadStatusDefinitionEntity> getThreadStatuses() {
-        return threadStatusDefinitionRepository.findAllByOrderByDisplayNameASC();
+        return referenceDataCache.snapshot().flatMapIterable(ReferenceDataCache.Snapshot::threadStatuses);
     }
 
     // ==================== PRIVATE HELPERS ====================
 
+    /**
+     * Keeps search suggestions and cached search rankings in step with a thread's title, category
+     * or deletion state. Called only after the write's transaction has committed.
+     */
+    private void reindexThread(ThreadEntity thread) {
+        searchSuggestionIndex.indexThread(thread);
+        searchResultCache.contentChanged();
+        threadTitleSearchIndex.invalidateAll();
+    }
+
+    private void reindexThread(ThreadResponse thread) {
+        searchSuggestionIndex.indexThread(thread.getId(), thread.getTitle(), thread.getCategoryId());
+        searchResultCache.contentChanged();
+        threadTitleSearchIndex.invalidateAll();
+    }
+
+    private void unindexThread(UUID threadId) {
+        searchSuggestionIndex.remove(SuggestionType.THREAD, threadId);
+        searchResultCache.contentChanged();
+        threadTitleSearchIndex.invalidateAll();
+    }
+
     private ThreadSortField validateAndNormalizeSortBy(String sortBy) {
         return ThreadSortField.fromString(sortBy);
     }
 
+    private ThreadListingFilter buildListingFilter(
+            UUID categoryId,
+            UUID creatorId,
+            ThreadType threadType,
+            ThreadStatus threadStatus,
+            Boolean isDeleted,
+            Boolean isFeatured,
+            Boolean hasContentWarning,
+            Boolean isBookmarked,
+            Boolean isWatched,
+            UUID categoryTagId,
+            String search,
+            ViewerContext viewerContext) {
+
+        UUID viewerId = UUID.fromString(viewerContext.getUserId());
+
+        if ((isDeleted != null && isDeleted)) {
+            boolean canViewAllDeleted = ModerationAction.VIEW_DELETED_THREADS.isAllowedFor(viewerContext);
+            // Silent: force filter to current user without error
+            if (!canViewAllDeleted) {
+                creatorId = viewerId;
+            }
+        }
+
+        String effectiveThreadType = threadType != null ? threadType.name() : null;
+        String effectiveThreadStatus = threadStatus != null ? threadStatus.name() : null;
+        String effectiveSearch = (search == null || search.trim().isEmpty()) ? null : search.trim();
+
+        return new ThreadListingFilter(
+                viewerId,
+                viewerContext.isAdmin(), viewerContext.isModeratorOrAdmin(), viewerContext.isVerified(),
+                categoryId, creatorId,
+                effectiveThreadType, effectiveThreadStatus,
+                isDeleted, isFeatured, hasContentWarning,
+                isBookmarked, isWatched,
+                categoryTagId,
+                effectiveSearch);
+    }
+
+    private ListingCursor buildCursor(ThreadEntity last, ThreadSortField sortField, String sortDirection) {
+        Object sortKey = switch (sortField) {
+            case CREATED_AT -> last.getCreatedAt();
+            case LAST_ACTIVITY_AT -> last.getLastActivityAt();
+            case POST_COUNT -> last.getPostCount();
+            case VIEW_COUNT -> last.getViewCount();
+            case TITLE -> last.getTitle();
+            case RELEVANCE -> last.getSearchScore();
+        };
+        return new ListingCursor(
+                sortField.getValue(),
+                sortDirection,
+                Boolean.TRUE.equals(last.getIsSticky()),
+                // A NULL sort column stays null so the seek predicate can place it
+                sortKey != null ? sortKey.toString() : null,
+                last.getId());
+    }
+
     private Mono<ThreadEntity> findThread(UUID threadId) {
         return threadRepository.findById(threadId)
                 .switchIfEmpty(Mono.error(new ApiException(
@@ -912,59 +1040,41 @@ public class ThreadServiceImpl implements ThreadService {
     }
 
 
+    private UUID viewerIdOf(ViewerContext viewerContext) {
+        return viewerContext != null && viewerContext.getUserId() != null
+                ? UUID.fromString(viewerContext.getUserId())
+                : null;
+    }
+
     /**
-     * Enriches a single thread with all related data using batch fetching.
-     * Uses the same batch approach as the listing endpoint.
+     * Enriches a single thread with all related data in one round trip (see ThreadReadModelRepository).
+     * The given entity is used as-is, so callers can pass in-memory adjustments such as unflushed views.
      */
     private Mono<ThreadResponse> enrichSingleThreadWithData(ThreadEntity thread, ViewerContext viewerContext) {
-        UUID threadId = thread.getId();
+        return threadReadModelRepository.findByThreadIds(List.of(thread.getId()), viewerIdOf(viewerContext))
+                .next()
+                .filter(model -> model.category() != null && model.creator() != null)
+                .map(model -> mapResponseWithData(thread, model, viewerContext));
+    }
 
-        return Mono.zip(
-                categoryRepository.findById(thread.getCategoryId())
-                        .switchIfEmpty(Mono.empty()),
-
-                appUserRepository.findAppUserByKeycloakId(thread.getCreatorId().toString())
-                        .switchIfEmpty(Mono.empty()),
-
-                bookmarkService.isBookmarked(thread.getId(), viewerContext)
-                        .defaultIfEmpty(false),
-
-                bookmarkService.getBookmarkCountForThread(thread.getId())
-                        .defaultIfEmpty(0L),
-
-                watchThreadService.isWatchingThread(threadId, viewerContext)
-                        .defaultIfEmpty(false),
-
-                categoryTagService.getTagsForCategory(thread.getCategoryId())
-                        .map(this::mapToThreadCategoryTag)
-                        .collectList()
-                        .defaultIfEmpty(List.of())
-
-        ).map(tuple -> {
-            CategoryEntity category = tuple.getT1();
-            AppUserEntity creator = tuple.getT2();
-            Boolean isBookmarked = tuple.getT3();
-            Long bookmarkCount = tuple.getT4();
-            Boolean isWatched = tuple.getT5();
-            List<ThreadCategoryTag> categoryTags = tuple.getT6();
-
-
-            return mapResponseWithData(
-                    thread,
-                    category,
-                    creator,
-                    isBookmarked,
-                    bookmarkCount,
-                    isWatched,
-                    categoryTags,
-                    viewerContext
-            );
-        });
+    /**
+     * Reloads a thread after a write and maps it to a response, re-reading the row and its
+     * enrichment in a single query instead of findThread + enrichSingleThreadWithData.
+     */
+    private Mono<ThreadResponse> loadThreadResponse(UUID threadId, ViewerContext viewerContext) {
+        return threadReadModelRepository.findByThreadIds(List.of(threadId), viewerIdOf(viewerContext))
+                .next()
+                .switchIfEmpty(Mono.error(new ApiException(
+                        "Thread not found",
+                        ErrorCode.RESOURCE_NOT_FOUND
+                )))
+                .filter(model -> model.category() != null && model.creator() != null)
+                .map(model -> mapResponseWithData(model.thread(), model, viewerContext));
     }
 
     /**
-     * Enriches a list of threads with batch-fetched data (categories, creators, bookmarks, watches).
-     * Uses batch fetching to avoid N+1 queries.
+     * Enriches a list of threads with categories, creators, bookmarks, watches and tags.
+     * All of it comes back from one read-model query, keyed by thread id; input order is preserved.
      */
     private Mono<EnrichedThreadData> enrichThreadWithBatchData(
             List<ThreadEntity> threads,
@@ -981,97 +1091,56 @@ public class ThreadServiceImpl implements ThreadService {
             ));
         }
 
-        // Extract IDs for batch fetching
-        List<UUID> categoryIds = threads.stream()
-                .map(ThreadEntity::getCategoryId)
-                .distinct()
-                .toList();
-
-        List<UUID> creatorIds = threads.stream()
-                .map(ThreadEntity::getCreatorId)
-                .distinct()
-                .toList();
-
         List<UUID> threadIds = threads.stream()
                 .map(ThreadEntity::getId)
                 .distinct()
                 .toList();
 
-        // Batch fetch all data in parallel
-        Mono<Map<UUID, CategoryEntity>> categoriesMap =
-                categoryRepository.findCategoriesByIds(categoryIds)
-                        .collectMap(CategoryEntity::getId);
-
-        Mono<Map<UUID, AppUserEntity>> creatorsMap =
-                appUserRepository.findAppUsersByKeycloakIds(creatorIds)
-                        .collectMap(AppUserEntity::getKeycloakId);
-
-        Mono<Map<UUID, Boolean>> bookmarkStatusMap =
-                threadBookmarkRepository.findBookmarkStatusForThreads(currentUserId, threadIds)
-                        .collectMap(BookmarkStatusRecord::thread_id, BookmarkStatusRecord::is_bookmarked)
-                        .defaultIfEmpty(new HashMap<>());
-
-        Mono<Map<UUID, Long>> bookmarkCountMap =
-                threadBookmarkRepository.findBookmarkCountsForThreads(threadIds)
-                        .collectMap(BookmarkCountRecord::thread_id, BookmarkCountRecord::count)
-                        .defaultIfEmpty(new HashMap<>());
-
-        Mono<Map<UUID, Boolean>> watchStatusMap =
-                watchThreadRepository.findWatchStatusForThreads(currentUserId, threadIds)
-                        .collectMap(WatchStatusRecord::thread_id, WatchStatusRecord::is_watched)
-                        .defaultIfEmpty(new HashMap<>());
+        return threadReadModelRepository.findByThreadIds(threadIds, currentUserId)
+                .collectMap(model -> model.thread().getId())
+                .map(models -> {
+                    Map<UUID, CategoryEntity> categories = new HashMap<>();
+                    Map<UUID, AppUserEntity> creators = new HashMap<>();
+                    Map<UUID, List<CategoryTagWithCategoryId>> tagsByCategory = new HashMap<>();
+
+                    List<ThreadResponse> responses = new ArrayList<>();
+                    for (ThreadEntity thread : threads) {
+                        ThreadReadModel model = models.get(thread.getId());
+                        if (model == null || model.category() == null || model.creator() == null) {
+                            continue;
+                        }
+                        categories.putIfAbsent(model.category().getId(), model.category());
+                        creators.putIfAbsent(model.creator().getKeycloakId(), model.creator());
+                        tagsByCategory.putIfAbsent(model.category().getId(), model.categoryTags());
 
-        // Batch fetch category tags for all categories
-        Mono<List<CategoryTagWithCategoryId>> flatTagsListMono = categoryTagRepository
-                .findTagsByCategoryId(categoryIds)
-                .collectList();
+                        responses.add(mapResponseWithData(thread, model, viewerContext));
+                    }
 
-        return Mono.zip(
-                categoriesMap,
-                creatorsMap,
-                bookmarkStatusMap,
-                bookmarkCountMap,
-                watchStatusMap,
-                flatTagsListMono
-        ).map(tuple -> {
-            Map<UUID, CategoryEntity> categories = tuple.getT1();
-            Map<UUID, AppUserEntity> creators = tuple.getT2();
-            Map<UUID, Boolean> bookmarkStatus = tuple.getT3();
-            Map<UUID, Long> bookmarkCount = tuple.getT4();
-            Map<UUID, Boolean> watchStatus = tuple.getT5();
-            List<CategoryTagWithCategoryId> flatTagsList = tuple.getT6();
-
-            Map<UUID, List<ThreadCategoryTag>> categoryTags = flatTagsList.stream()
-                    .collect(Collectors.groupingBy(
-                            CategoryTagWithCategoryId::category_id,
-                            Collectors.mapping(this::mapToThreadCategoryTag,
-                                    Collectors.toList())
-                    ));
-
-
-            List<ThreadResponse> responses = threads.stream()
-                    .map(thread -> mapResponseWithData(
-                            thread,
-                            categories.get(thread.getCategoryId()),
-                            creators.get(thread.getCreatorId()),
-                            bookmarkStatus.getOrDefault(thread.getId(), false),
-                            bookmarkCount.getOrDefault(thread.getId(), 0L),
-                            watchStatus.getOrDefault(thread.getId(), false),
-                            categoryTags.get(thread.getCategoryId()),
-                            viewerContext
-                    ))
-                    .toList();
-
-            return new EnrichedThreadData(
-                    responses,
-                    threads,
-                    creators,
-                    categories,
-                    flatTagsList
-            );
+                    List<CategoryTagWithCategoryId> flatTagsList = tagsByCategory.values().stream()
+                            .flatMap(List::stream)
+                            .toList();
 
-        });
+                    return new EnrichedThreadData(
+                            responses,
+                            threads,
+                            creators,
+                            categories,
+                            flatTagsList
+                    );
+                });
+    }
 
+    private ThreadResponse mapResponseWithData(ThreadEntity thread, ThreadReadModel model, ViewerContext viewerContext) {
+        return mapResponseWithData(
+                thread,
+                model.category(),
+                model.creator(),
+                model.isBookmarked(),
+                model.bookmarkCount(),
+                model.isWatched(),
+                model.categoryTags().stream().map(this::mapToThreadCategoryTag).toList(),
+                viewerContext
+        );
     }
 
     private ThreadResponse mapResponseWithData(
@@ -1122,6 +1191,7 @@ public class ThreadServiceImpl implements ThreadService {
                 .createdAt(thread.getCreatedAt())
                 .updatedAt(thread.getUpdatedAt())
                 .lastActivityAt(thread.getLastActivityAt())
+                .searchScore(thread.getSearchScore())
                 .build();
     }
 
@@ -1141,14 +1211,6 @@ public class ThreadServiceImpl implements ThreadService {
                 .build();
     }
 
-    private ThreadCategoryTag mapToThreadCategoryTag(CategoryTagResponse tag) {
-        return ThreadCategoryTag.builder()
-                .id(tag.getId())
-                .name(tag.getName())
-                .slug(tag.getSlug())
-                .build();
-    }
-
     private FilterMetadata<ThreadFilterDto> buildThreadFilters(EnrichedThreadData data) {
         // Build creator options
         List<FilterOption> creatorOptions = data.creators().values().stream()
@@ -10,6 +10,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.UserRestrictionEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.UserWarningEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.*;
+import com.mentalhealthforum.mentalhealthforum_backend.service.RestrictionStatusCache;
 import com.mentalhealthforum.mentalhealthforum_backend.service.UserModerationService;
 import com.mentalhealthforum.mentalhealthforum_backend.utils.DateTimeUtils;
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ public class UserModerationServiceImpl implements UserModerationService {
     private final ContentReportRepository contentReportRepository;
     private final UserWarningRepository userWarningRepository;
     private final UserRestrictionRepository userRestrictionRepository;
+    private final RestrictionStatusCache restrictionStatusCache;
 
     public UserModerationServiceImpl(
             TransactionalOperator transactionalOperator,
@@ -43,7 +45,8 @@ public class UserModerationServiceImpl implements UserModerationService {
             PostRepository postRepository,
             ContentReportRepository contentReportRepository,
             UserWarningRepository userWarningRepository,
-            UserRestrictionRepository userRestrictionRepository) {
+            UserRestrictionRepository userRestrictionRepository,
+            RestrictionStatusCache restrictionStatusCache) {
         this.transactionalOperator = transactionalOperator;
         this.appUserRepository = appUserRepository;
         this.threadRepository = threadRepository;
@@ -51,6 +54,7 @@ public class UserModerationServiceImpl implements UserModerationService {
         this.contentReportRepository = contentReportRepository;
         this.userWarningRepository = userWarningRepository;
         this.userRestrictionRepository = userRestrictionRepository;
+        this.restrictionStatusCache = restrictionStatusCache;
     }
 
     // ==================== WARNINGS ====================
@@ -162,7 +166,8 @@ public class UserModerationServiceImpl implements UserModerationService {
                     return userRestrictionRepository.save(restriction)
                             .flatMap(this::mapToRestrictionResponse);
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> restrictionStatusCache.invalidate(userId));
     }
 
 
@@ -175,12 +180,13 @@ public class UserModerationServiceImpl implements UserModerationService {
                         UUID.fromString(viewerContext.getUserId()),
                         request.reason()
                 ))
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> restrictionStatusCache.invalidate(userId));
     }
 
     @Override
     public Mono<Boolean> isUserMuted(UUID userId) {
-        return userRestrictionRepository.existsByUserIdRestrictionTypeAndIsActiveTrue(userId, RestrictionType.MUTE);
+        return restrictionStatusCache.getStatus(userId).map(RestrictionStatus::isMuted);
     }
 
     @Override
@@ -243,7 +249,8 @@ public class UserModerationServiceImpl implements UserModerationService {
                     return userRestrictionRepository.save(restriction)
                             .flatMap(this::mapToRestrictionResponse);
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> restrictionStatusCache.invalidate(userId));
     }
 
     @Override
@@ -255,12 +262,13 @@ public class UserModerationServiceImpl implements UserModerationService {
                         UUID.fromString(viewerContext.getUserId()),
                         request.reason()
                 ))
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> restrictionStatusCache.invalidate(userId));
     }
 
     @Override
     public Mono<Boolean> isUserSuspended(UUID userId) {
-        return userRestrictionRepository.existsByUserIdRestrictionTypeAndIsActiveTrue(userId, RestrictionType.SUSPENSION);
+        return restrictionStatusCache.getStatus(userId).map(RestrictionStatus::isSuspended);
     }
 
     @Override
@@ -314,7 +322,8 @@ public class UserModerationServiceImpl implements UserModerationService {
                             .then(userRestrictionRepository.save(restriction))
                             .flatMap(this::mapToRestrictionResponse);
                 })
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> restrictionStatusCache.invalidate(userId));
     }
 
     @Override
@@ -327,12 +336,13 @@ public class UserModerationServiceImpl implements UserModerationService {
                         request.reason()
                 ))
                 .then(reactivateUserAccount(userId))
-                .as(transactionalOperator::transactional);
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(v -> restrictionStatusCache.invalidate(userId));
     }
 
     @Override
     public Mono<Boolean> isUserBanned(UUID userId) {
-        return userRestrictionRepository.existsByUserIdRestrictionTypeAndIsActiveTrue(userId, RestrictionType.PERMANENT_BAN);
+        return restrictionStatusCache.getStatus(userId).map(RestrictionStatus::isBanned);
     }
 
     @Override
@@ -368,7 +378,12 @@ public class UserModerationServiceImpl implements UserModerationService {
 
     @Override
     public Mono<Boolean> hasActiveRestriction(UUID userId, RestrictionType restrictionType){
-        return userRestrictionRepository.existsByUserIdRestrictionTypeAndIsActiveTrue(userId, restrictionType);
+        return restrictionStatusCache.getStatus(userId).map(status -> status.has(restrictionType));
+    }
+
+    @Override
+    public Mono<RestrictionStatus> getRestrictionStatus(UUID userId){
+        return restrictionStatusCache.getStatus(userId);
     }
 
     // ==================== PRIVATE HELPERS ====================
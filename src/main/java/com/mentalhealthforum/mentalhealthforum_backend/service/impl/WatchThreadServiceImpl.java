@@ -15,6 +15,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.enums.ErrorCode;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadStatus;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.ThreadType;
 import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.WatchThreadSortField;
+import com.mentalhealthforum.mentalhealthforum_backend.enums.listings.CountStrategy;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.ApiException;
 import com.mentalhealthforum.mentalhealthforum_backend.exception.error.InvalidPaginationException;
 import com.mentalhealthforum.mentalhealthforum_backend.model.AppUserEntity;
@@ -22,6 +23,7 @@ import com.mentalhealthforum.mentalhealthforum_backend.model.CategoryEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.model.WatchThreadEntity;
 import com.mentalhealthforum.mentalhealthforum_backend.repository.*;
 import com.mentalhealthforum.mentalhealthforum_backend.service.AppUserService;
+import com.mentalhealthforum.mentalhealthforum_backend.service.ListingCountResolver;
 import com.mentalhealthforum.mentalhealthforum_backend.service.WatchThreadService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +46,7 @@ public class WatchThreadServiceImpl implements WatchThreadService {
     private final CategoryRepository categoryRepository;
     private final AppUserRepository appUserRepository;
     private final AppUserService appUserService;
+    private final ListingCountResolver listingCountResolver;
 
     public WatchThreadServiceImpl(
             TransactionalOperator transactionalOperator,
@@ -52,7 +55,8 @@ public class WatchThreadServiceImpl implements WatchThreadService {
             ThreadBookmarkRepository threadBookmarkRepository,
             CategoryRepository categoryRepository,
             AppUserRepository appUserRepository,
-            AppUserService appUserService) {
+            AppUserService appUserService,
+            ListingCountResolver listingCountResolver) {
         this.transactionalOperator = transactionalOperator;
         this.watchThreadRepository = watchThreadRepository;
         this.threadRepository = threadRepository;
@@ -60,6 +64,7 @@ public class WatchThreadServiceImpl implements WatchThreadService {
         this.categoryRepository = categoryRepository;
         this.appUserRepository = appUserRepository;
         this.appUserService = appUserService;
+        this.listingCountResolver = listingCountResolver;
     }
 
     @Override
@@ -102,6 +107,7 @@ public class WatchThreadServiceImpl implements WatchThreadService {
             String search,
             String sortBy,
             String sortDirection,
+            CountStrategy countStrategy,
             ViewerContext viewerContext
     ){
 
@@ -122,6 +128,18 @@ public class WatchThreadServiceImpl implements WatchThreadService {
         WatchThreadSortField sortByField = validateAndNormalizeSortBy(sortBy);
         String effectiveSortDirection = sortByField.determineSortDirection(sortDirection);
 
+        Mono<Long> totalCount = listingCountResolver.resolve(
+                countStrategy,
+                "watches:" + Arrays.asList(viewerId, categoryId, creatorId, effectiveThreadType, effectiveThreadStatus,
+                        hasContentWarning, isBookmarked, notificationEnabled, effectiveSearch),
+                () -> watchThreadRepository.countByUserIdWithFilters(
+                        viewerId,
+                        isAdmin, isModeratorOrAdmin, isVerified,
+                        categoryId, creatorId, effectiveThreadType, effectiveThreadStatus,
+                        hasContentWarning, isBookmarked, notificationEnabled,
+                        effectiveSearch),
+                null);
+
         return watchThreadRepository.findPaginatedByUserId(
                 viewerId,
                 isAdmin, isModeratorOrAdmin, isVerified,
@@ -129,27 +147,27 @@ public class WatchThreadServiceImpl implements WatchThreadService {
                 hasContentWarning, isBookmarked, notificationEnabled,
                 effectiveSearch,
                 sortByField.getValue(), effectiveSortDirection,
-                size, offset
+                listingCountResolver.fetchSize(countStrategy, size), offset
                 )
                 .collectList()
-                .flatMap(records -> {
-                    if(records.isEmpty()){
+                .flatMap(fetched -> {
+                    if(fetched.isEmpty()){
                         return Mono.just(new PaginatedResponse<>(List.of(), page, size, 0L));
                     }
+
+                    boolean hasNext = fetched.size() > size;
+                    List<WatchThreadRecord> records = hasNext ? fetched.subList(0, size) : fetched;
+
                     return enrichWatchedThreadsWithBatchData(records, viewerId)
-                            .zipWith(watchThreadRepository.countByUserIdWithFilters(
-                                    viewerId,
-                                    isAdmin, isModeratorOrAdmin, isVerified,
-                                    categoryId, creatorId, effectiveThreadType, effectiveThreadStatus,
-                                    hasContentWarning, isBookmarked, notificationEnabled,
-                                    effectiveSearch)
-                            )
+                            .zipWith(totalCount)
                             .map(tuple -> {
                                 EnrichedWatchThreadData enrichedData = tuple.getT1();
                                 long total = tuple.getT2();
                                 FilterMetadata<WatchThreadFilterDto> filters = buildWatchThreadFilter(enrichedData);
 
-                                return new PaginatedResponse<>(enrichedData.responses, page, size, total, filters);
+                                return countStrategy == CountStrategy.HAS_MORE
+                                        ? new PaginatedResponse<>(enrichedData.responses, page, size, hasNext, filters)
+                                        : new PaginatedResponse<>(enrichedData.responses, page, size, total, filters);
                             });
                 });
 
@@ -0,0 +1,128 @@
+package com.mentalhealthforum.mentalhealthforum_backend.utils;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory cache with per-entry expiry.
+ *
+ * <p>Deliberately minimal: entries expire lazily on read, and when the cache reaches its bound one
+ * insert frees a batch of {@code maxEntries / 20} slots, preferring expired entries from a bounded
+ * window and then dropping arbitrary live ones. Eviction work is therefore amortized over the batch
+ * instead of scanning the whole map on every insert at the bound. That is good enough for the
+ * short-lived, cheap-to-rebuild values it is used for (counts, lookups, search pages).
+ */
+public class TtlCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final int evictionBatch;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public TtlCache(Duration ttl, int maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.evictionBatch = Math.max(1, maxEntries / 20);
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttl);
+    }
+
+    public void put(K key, V value, Duration entryTtl) {
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + entryTtl.toNanos()));
+    }
+
+    /**
+     * Stores the value unless a live entry exists, atomically. Returns whether it was stored.
+     */
+    public boolean putIfAbsent(K key, V value) {
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        Entry<V> fresh = new Entry<>(value, System.nanoTime() + ttl.toNanos());
+        return entries.compute(key, (k, existing) -> existing != null && !existing.isExpired() ? existing : fresh) == fresh;
+    }
+
+    /**
+     * Returns the cached value, or subscribes to the loader and caches what it emits.
+     */
+    public Mono<V> getOrLoad(K key, Supplier<Mono<V>> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return loader.get().doOnNext(value -> put(key, value));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateIf(Predicate<K> keyPredicate) {
+        entries.keySet().removeIf(keyPredicate);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        // One evictor at a time; concurrent inserts may overshoot the bound by a few entries
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int remaining = evictionBatch;
+            int window = evictionBatch * 4;
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (remaining > 0 && window-- > 0 && iterator.hasNext()) {
+                if (iterator.next().isExpired()) {
+                    iterator.remove();
+                    remaining--;
+                }
+            }
+            iterator = entries.values().iterator();
+            while (remaining > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                remaining--;
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
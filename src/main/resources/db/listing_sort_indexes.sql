@@ -0,0 +1,88 @@
+-- =====================================================================
+-- Composite indexes backing the typed listing sort plans
+-- (ThreadListingRepository / PostListingRepository).
+--
+-- The schema is managed outside the application (spring.sql.init is
+-- disabled), so apply these manually. CONCURRENTLY keeps the tables
+-- writable while the indexes build; run each statement on its own.
+--
+-- Thread plans:  ORDER BY is_sticky DESC, <column> <dir>, id <dir>
+-- Post plans:    ORDER BY <column> <dir>, id <dir>
+-- Default listings only show live rows, hence the partial predicates.
+--
+-- is_sticky is always DESC, so the non-default direction of a thread sort
+-- mixes directions and cannot use a backward scan of the default index;
+-- it needs its own mirrored index. Mirrors exist for created_at ASC and
+-- title DESC. last_activity_at, post_count and view_count ASC are NOT
+-- index-backed and sort the filtered set: they are rarely requested, and
+-- those columns are rewritten by every stats/view flush, so each extra
+-- index would tax the hottest writes on forum_threads.
+-- =====================================================================
+
+-- ==================== THREADS ====================
+
+-- sort_by=last_activity_at (default, DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_last_activity
+    ON forum_threads (is_sticky DESC, last_activity_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- sort_by=created_at (DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_created
+    ON forum_threads (is_sticky DESC, created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- sort_by=post_count (DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_post_count
+    ON forum_threads (is_sticky DESC, post_count DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- sort_by=view_count (DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_view_count
+    ON forum_threads (is_sticky DESC, view_count DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- sort_by=created_at, direction=ASC (mirror)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_created_asc
+    ON forum_threads (is_sticky DESC, created_at ASC, id ASC)
+    WHERE is_deleted = FALSE;
+
+-- sort_by=title (ASC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_title
+    ON forum_threads (is_sticky DESC, title ASC, id ASC)
+    WHERE is_deleted = FALSE;
+
+-- sort_by=title, direction=DESC (mirror)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_sticky_title_desc
+    ON forum_threads (is_sticky DESC, title DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- Category pages with the default sort
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_category_sticky_last_activity
+    ON forum_threads (category_id, is_sticky DESC, last_activity_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- Creator pages ("my threads", including own deleted threads)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_creator_sticky_last_activity
+    ON forum_threads (creator_id, is_sticky DESC, last_activity_at DESC, id DESC);
+
+-- ==================== POSTS ====================
+
+-- Thread page, sort_by=created_at (ASC default; DESC uses a backward scan)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_thread_created
+    ON forum_posts (thread_id, created_at, id)
+    WHERE is_deleted = FALSE;
+
+-- Thread page, sort_by=updated_at (DESC default; ASC uses a backward scan)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_thread_updated
+    ON forum_posts (thread_id, updated_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- Author history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_author_created
+    ON forum_posts (author_id, created_at, id);
+
+-- Reply tree (PostReplyTreeRepository): first :maxChildren replies per parent,
+-- plus the per-node reply counts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_parent_created
+    ON forum_posts (parent_post_id, created_at, id)
+    WHERE is_deleted = FALSE;
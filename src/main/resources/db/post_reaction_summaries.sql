@@ -0,0 +1,30 @@
+-- =====================================================================
+-- Denormalized per-post reaction counters (PostReactionSummaryRepository).
+--
+-- The schema is managed outside the application (spring.sql.init is
+-- disabled), so apply this manually. counts holds one integer per
+-- ReactionType ({"HUGS": 3, "HELPFUL": 1}); a missing key means 0, so new
+-- reaction types need no migration. ReactionIngestionBuffer updates the
+-- row in the same transaction that inserts or deletes the post_reactions
+-- row; the backfill below (re)builds every summary from post_reactions.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS post_reaction_summaries (
+    post_id      UUID PRIMARY KEY REFERENCES forum_posts (id) ON DELETE CASCADE,
+    counts       JSONB NOT NULL DEFAULT '{}'::JSONB,
+    total_count  INTEGER NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO post_reaction_summaries (post_id, counts, total_count)
+SELECT per_type.post_id, jsonb_object_agg(per_type.reaction_type, per_type.reaction_count), SUM(per_type.reaction_count)
+FROM (
+    SELECT post_id, reaction_type::TEXT AS reaction_type, COUNT(*) AS reaction_count
+    FROM post_reactions
+    GROUP BY post_id, reaction_type
+) per_type
+GROUP BY per_type.post_id
+ON CONFLICT (post_id) DO UPDATE
+    SET counts = EXCLUDED.counts,
+        total_count = EXCLUDED.total_count,
+        updated_at = NOW();
@@ -0,0 +1,17 @@
+-- =====================================================================
+-- Per-lexeme document frequencies used by SearchQueryPlanner to estimate
+-- how much of forum_posts a global search query would match.
+--
+-- The schema is managed outside the application (spring.sql.init is
+-- disabled), so apply this manually. SearchLexemeStatsRepository.refresh
+-- repopulates the table nightly from ts_stat over forum_posts.search_vector
+-- (see search_tsvector_columns.sql). Only lexemes present in at least
+-- 0.1% of posts are kept; a missing lexeme counts as rare. An empty table
+-- makes every query plan FULL.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS search_lexeme_stats (
+    lexeme        TEXT PRIMARY KEY,
+    post_ndoc     INTEGER NOT NULL,
+    refreshed_at  TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,96 @@
+-- =====================================================================
+-- Stored, weighted tsvector columns and GIN indexes for global search
+-- (GlobalSearchRepository) and the thread/post listing search filters.
+--
+-- The schema is managed outside the application (spring.sql.init is
+-- disabled), so apply these manually. Apart from the category search
+-- document, the columns are GENERATED ... STORED, so PostgreSQL maintains
+-- them on every insert/update and no application code writes them.
+-- Adding a stored generated column rewrites the table; run the ALTERs in a
+-- maintenance window. CONCURRENTLY keeps the tables
+-- writable while the indexes build; run each statement on its own.
+--
+-- Weights match the ranking the search used to compute per row:
+--   thread title A, post content B, category name A / description B /
+--   tag names A, profile display name A (simple config) / bio B (english config).
+-- =====================================================================
+
+-- ==================== THREADS ====================
+
+ALTER TABLE forum_threads
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('public.english_unaccent'::regconfig, coalesce(title, '')), 'A')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_search_vector
+    ON forum_threads USING GIN (search_vector);
+
+-- Trigram side of the thread listing title search (ThreadTitleSearchIndex),
+-- which runs it as its own index scan unioned with the search_vector match.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_threads_title_trgm
+    ON forum_threads USING GIN (public.unaccent_immutable(title) gin_trgm_ops);
+
+-- ==================== POSTS ====================
+
+ALTER TABLE forum_posts
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('public.english_unaccent'::regconfig, coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_search_vector
+    ON forum_posts USING GIN (search_vector);
+
+-- ==================== CATEGORIES ====================
+
+-- Categories get a plain (not generated) column because tag names live in
+-- category_tag_assignments/category_tags. CategoryRepository.refreshSearchDocuments
+-- rebuilds it after category create/update and tag rename, delete, assignment
+-- and removal (CategoryServiceImpl, CategoryTagServiceImpl).
+ALTER TABLE forum_categories
+    ADD COLUMN IF NOT EXISTS search_document tsvector;
+
+UPDATE forum_categories c
+SET search_document =
+    setweight(to_tsvector('public.english_unaccent'::regconfig, coalesce(c.name, '')), 'A') ||
+    setweight(to_tsvector('public.english_unaccent'::regconfig, coalesce(c.description, '')), 'B') ||
+    setweight(to_tsvector('public.english_unaccent'::regconfig, coalesce((
+        SELECT string_agg(ct.name, ' ')
+        FROM category_tag_assignments cta
+        JOIN category_tags ct ON cta.tag_id = ct.id
+        WHERE cta.category_id = c.id
+    ), '')), 'A');
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_categories_search_document
+    ON forum_categories USING GIN (search_document);
+
+-- Superseded by search_document
+DROP INDEX CONCURRENTLY IF EXISTS idx_categories_search_vector;
+
+ALTER TABLE forum_categories
+    DROP COLUMN IF EXISTS search_vector;
+
+-- ==================== PROFILES ====================
+
+-- Display names are matched with the simple config and bios with the english
+-- config, so they are kept as two vectors (one per query config).
+ALTER TABLE app_users
+    ADD COLUMN IF NOT EXISTS search_name_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('public.simple_unaccent'::regconfig, coalesce(display_name, '')), 'A')
+    ) STORED;
+
+ALTER TABLE app_users
+    ADD COLUMN IF NOT EXISTS search_bio_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('public.english_unaccent'::regconfig, coalesce(bio, '')), 'B')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_search_name_vector
+    ON app_users USING GIN (search_name_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_search_bio_vector
+    ON app_users USING GIN (search_bio_vector);